@@ -0,0 +1,68 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.roster.RosterChange;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Client for the mock server's roster change feed ({@code /changes}).
+ */
+@Component
+public class EmployeeChangeFeed {
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> EVENTS =
+            new ParameterizedTypeReference<>() { };
+
+    private final WebClient webClient;
+    private final EmployeePayloadDecoder payloadDecoder;
+
+    public EmployeeChangeFeed(WebClient webClient, EmployeePayloadDecoder payloadDecoder) {
+        this.webClient = webClient;
+        this.payloadDecoder = payloadDecoder;
+    }
+
+    /**
+     * @return the cursor of the feed's current position; following from it yields only later changes
+     */
+    public Mono<String> latestCursor() {
+        return webClient.get()
+                .uri("/changes")
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .as(payloadDecoder::decodePage)
+                .flatMap(page -> Mono.justOrEmpty(page.nextCursor()));
+    }
+
+    /**
+     * Streams the changes after {@code cursor} and then every change as it happens, over one long-lived request.
+     * Completes when the server ends the stream; fails with a 410 {@code WebClientResponseException} once the cursor
+     * has expired.
+     */
+    public Flux<RosterChange> changes(String cursor) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/changes/stream").queryParam("since", cursor).build())
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .retrieve()
+                .bodyToFlux(EVENTS)
+                .concatMap(this::toChange);
+    }
+
+    private Mono<RosterChange> toChange(ServerSentEvent<String> event) {
+        RosterChange.Type type = event.event() == null ? RosterChange.Type.HEARTBEAT : switch (event.event()) {
+            case "created" -> RosterChange.Type.CREATED;
+            case "deleted" -> RosterChange.Type.DELETED;
+            default -> RosterChange.Type.HEARTBEAT;
+        };
+        if (type == RosterChange.Type.HEARTBEAT || event.data() == null) {
+            return Mono.just(RosterChange.heartbeat());
+        }
+        return payloadDecoder.decodeEmployee(event.data())
+                .map(employee -> new RosterChange(type, employee, event.id()));
+    }
+}
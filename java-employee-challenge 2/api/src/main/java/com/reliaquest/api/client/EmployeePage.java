@@ -0,0 +1,13 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.dto.Employee;
+
+import java.util.List;
+
+/**
+ * One page of the mock server's roster.
+ *
+ * @param nextCursor cursor of the following page, or {@code null} on the last page
+ */
+public record EmployeePage(List<Employee> employees, String nextCursor) {
+}
@@ -0,0 +1,310 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileConstants;
+import com.reliaquest.api.dto.Employee;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Decodes the mock server's {@code Response} envelope straight into {@link Employee} objects as the body arrives.
+ * <p>
+ * Body chunks are pushed into one non-blocking Jackson parser created from the factory of one of the application's
+ * shared mappers, and every employee is emitted as soon as its closing brace has been read. There is no
+ * intermediate tree and no per-call mapper, and a roster never has to be buffered as a whole. The envelope's
+ * {@code data} member may be a single employee or an array of them; the server's {@code employee_}-prefixed property
+ * names (and the plain ones) are mapped by hand.
+ * <p>
+ * Bodies may be JSON or Smile. Smile is the binary form of the same data model, which the client prefers (see
+ * {@code employee.upstream.wire-format}). The format is told apart by the first byte: a Smile body starts with the
+ * {@code :)} header, which JSON cannot. It is then parsed by the Smile mapper configured next to the JSON one (see
+ * {@code WebClientConfig}), through the same non-blocking parser API. A Smile UUID arrives as
+ * 16 raw bytes and, like a UUID string, does not fit {@link Employee#getId()}; either way it is kept as
+ * {@link Employee#getUpstreamId()}.
+ */
+public class EmployeePayloadDecoder {
+
+    private final JsonFactory jsonFactory;
+    private final JsonFactory smileFactory;
+
+    public EmployeePayloadDecoder(ObjectMapper objectMapper, ObjectMapper smileObjectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.smileFactory = smileObjectMapper.getFactory();
+    }
+
+    public Flux<Employee> decode(Flux<DataBuffer> body) {
+        return Flux.defer(() -> decode(body, new Decoding(this::newParser)));
+    }
+
+    public Mono<Employee> decodeOne(Flux<DataBuffer> body) {
+        return decode(body).singleOrEmpty();
+    }
+
+    /**
+     * Decodes a bare employee object, as carried by a change feed event, by reading it as the {@code data} of an
+     * envelope.
+     */
+    public Mono<Employee> decodeEmployee(String json) {
+        byte[] envelope = ("{\"data\":" + json + "}").getBytes(StandardCharsets.UTF_8);
+        return decodeOne(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(envelope)));
+    }
+
+    /**
+     * Decodes one page of a paged roster, together with the envelope's {@code nextCursor}. Only this page is held in
+     * memory, so the page size bounds what a caller walking the roster buffers.
+     */
+    public Mono<EmployeePage> decodePage(Flux<DataBuffer> body) {
+        return Mono.defer(() -> {
+            Decoding decoding = new Decoding(this::newParser);
+            return decode(body, decoding)
+                    .collectList()
+                    .map(employees -> new EmployeePage(employees, decoding.nextCursor));
+        });
+    }
+
+    private Flux<Employee> decode(Flux<DataBuffer> body, Decoding decoding) {
+        return body.concatMapIterable(decoding::feed)
+                .concatWith(Flux.defer(() -> Flux.fromIterable(decoding.finish())))
+                .doFinally(signal -> decoding.close());
+    }
+
+    private JsonParser newParser(byte firstByte) {
+        try {
+            return firstByte == SmileConstants.HEADER_BYTE_1
+                    ? smileFactory.createNonBlockingByteArrayParser()
+                    : jsonFactory.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new DecodingException("Unable to create parser", e);
+        }
+    }
+
+    /**
+     * Creates the parser for a body once its first byte is known.
+     */
+    @FunctionalInterface
+    private interface ParserFactory {
+        JsonParser create(byte firstByte);
+    }
+
+    /**
+     * Parse state for one response body. Depth 1 is the envelope, so an employee object sits at depth 2 when
+     * {@code data} is a single object and at depth 3 when it is an array.
+     */
+    private static final class Decoding {
+
+        private final ParserFactory parserFactory;
+        private JsonParser parser;
+        private ByteArrayFeeder feeder;
+        private byte[] chunk = new byte[0];
+
+        private int depth;
+        private boolean inData;
+        private boolean inNextCursor;
+        private String nextCursor;
+        private boolean dataIsArray;
+        private int employeeDepth;
+        private Employee employee;
+        private String field;
+
+        Decoding(ParserFactory parserFactory) {
+            this.parserFactory = parserFactory;
+        }
+
+        List<Employee> feed(DataBuffer buffer) {
+            try {
+                int length = buffer.readableByteCount();
+                if (chunk.length < length) {
+                    chunk = new byte[length];
+                }
+                buffer.read(chunk, 0, length);
+                if (length == 0) {
+                    return List.of();
+                }
+                if (parser == null) {
+                    parser = parserFactory.create(chunk[0]);
+                    feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+                }
+                // The parser only references the chunk until it reports NOT_AVAILABLE, so it is reused across feeds.
+                feeder.feedInput(chunk, 0, length);
+                return drain();
+            } catch (IOException e) {
+                throw new DecodingException("Malformed employee payload", e);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+
+        List<Employee> finish() {
+            if (parser == null) {
+                return List.of();
+            }
+            try {
+                feeder.endOfInput();
+                List<Employee> decoded = drain();
+                if (depth != 0) {
+                    throw new DecodingException("Truncated employee payload");
+                }
+                return decoded;
+            } catch (IOException e) {
+                throw new DecodingException("Malformed employee payload", e);
+            }
+        }
+
+        void close() {
+            if (parser == null) {
+                return;
+            }
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // Nothing left to release.
+            }
+        }
+
+        private List<Employee> drain() throws IOException {
+            List<Employee> decoded = List.of();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                Employee completed = handle(token);
+                if (completed != null) {
+                    if (decoded.isEmpty()) {
+                        decoded = new ArrayList<>();
+                    }
+                    decoded.add(completed);
+                }
+            }
+            return decoded;
+        }
+
+        private Employee handle(JsonToken token) throws IOException {
+            switch (token) {
+                case START_OBJECT -> {
+                    depth++;
+                    if (inData && employee == null && (depth == 2 || (depth == 3 && dataIsArray))) {
+                        employee = new Employee();
+                        employeeDepth = depth;
+                    }
+                }
+                case START_ARRAY -> {
+                    depth++;
+                    if (inData && depth == 2) {
+                        dataIsArray = true;
+                    }
+                }
+                case END_OBJECT -> {
+                    Employee completed = null;
+                    if (employee != null && depth == employeeDepth) {
+                        completed = employee;
+                        employee = null;
+                    }
+                    depth--;
+                    return completed;
+                }
+                case END_ARRAY -> depth--;
+                case FIELD_NAME -> {
+                    if (depth == 1) {
+                        inData = "data".equals(parser.currentName());
+                        inNextCursor = "nextCursor".equals(parser.currentName());
+                    } else if (employee != null && depth == employeeDepth) {
+                        field = parser.currentName();
+                    }
+                }
+                default -> {
+                    if (employee != null && depth == employeeDepth) {
+                        assign(token);
+                    } else if (inNextCursor && depth == 1) {
+                        nextCursor = textValue(token);
+                    }
+                }
+            }
+            return null;
+        }
+
+        private void assign(JsonToken token) throws IOException {
+            switch (field) {
+                case "id" -> {
+                    employee.setId(outOfIntRange(token) ? null : intValue(token));
+                    employee.setUpstreamId(idValue(token));
+                }
+                case "employee_name", "name" -> employee.setName(textValue(token));
+                case "employee_salary", "salary" -> employee.setSalary(intValue(token));
+                case "employee_age", "age" -> employee.setAge(intValue(token));
+                case "employee_title", "title" -> employee.setTitle(textValue(token));
+                case "employee_email", "email" -> employee.setEmail(textValue(token));
+                default -> {
+                    // Unknown properties are ignored.
+                }
+            }
+        }
+
+        private String textValue(JsonToken token) throws IOException {
+            return token == JsonToken.VALUE_NULL ? null : parser.getText();
+        }
+
+        /**
+         * @return the id as text, with a binary Smile UUID written in its usual form
+         */
+        private String idValue(JsonToken token) throws IOException {
+            if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+                byte[] bytes = parser.getBinaryValue();
+                if (bytes.length != 2 * Long.BYTES) {
+                    return null;
+                }
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                return new UUID(buffer.getLong(), buffer.getLong()).toString();
+            }
+            return token.isScalarValue() && token != JsonToken.VALUE_NULL ? parser.getText() : null;
+        }
+
+        /**
+         * {@link Employee#getId()} is an integer while the mock server issues UUIDs; ids that are not numeric are
+         * left unset rather than failing the whole roster. Any other field with a number outside the int range is
+         * rejected, as the databind mapping rejects it.
+         */
+        private Integer intValue(JsonToken token) throws IOException {
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                if (outOfIntRange(token)) {
+                    throw new DecodingException("Employee " + field + " out of int range: " + parser.getText());
+                }
+                return parser.getIntValue();
+            }
+            if (token == JsonToken.VALUE_STRING) {
+                String text = parser.getText();
+                return isSmallInteger(text) ? Integer.valueOf(text) : null;
+            }
+            return null;
+        }
+
+        private boolean outOfIntRange(JsonToken token) throws IOException {
+            return token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() != JsonParser.NumberType.INT;
+        }
+
+        private static boolean isSmallInteger(String text) {
+            int start = text.startsWith("-") ? 1 : 0;
+            if (text.length() == start || text.length() - start > 9) {
+                return false;
+            }
+            for (int i = start; i < text.length(); i++) {
+                if (!Character.isDigit(text.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
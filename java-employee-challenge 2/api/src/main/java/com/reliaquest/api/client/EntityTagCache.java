@@ -0,0 +1,93 @@
+package com.reliaquest.api.client;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GETs for upstream reads that carry an {@code ETag}.
+ * <p>
+ * The last decoded value of each key is kept together with its ETag, which is sent as {@code If-None-Match} on the
+ * next read of that key. A 304 is answered with the kept value, so an unchanged representation costs neither its
+ * bytes nor decoding it again. At most {@code maxEntries} keys are kept, the least recently used is dropped first.
+ */
+public class EntityTagCache<V> {
+
+    private final String name;
+    private final Map<String, Entry<V>> entries;
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong modified = new AtomicLong();
+
+    public EntityTagCache(String name, int maxEntries) {
+        this.name = name;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param request builds the request afresh for every subscription, so a retry does not repeat headers
+     * @param decoder decodes a 200 body; its value is kept if the response has an ETag
+     */
+    public Mono<V> get(String key, Supplier<WebClient.RequestHeadersSpec<?>> request,
+                       Function<Flux<DataBuffer>, Mono<V>> decoder) {
+        return Mono.defer(() -> {
+            Entry<V> cached = lookup(key);
+            WebClient.RequestHeadersSpec<?> spec = request.get();
+            if (cached != null) {
+                spec.headers(headers -> headers.setIfNoneMatch(cached.etag()));
+            }
+            return spec.exchangeToMono(response -> {
+                if (cached != null && response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                    notModified.incrementAndGet();
+                    return Mono.just(cached.value());
+                }
+                if (response.statusCode().isError()) {
+                    return response.createError();
+                }
+                modified.incrementAndGet();
+                String etag = response.headers().asHttpHeaders().getETag();
+                return decoder.apply(response.bodyToFlux(DataBuffer.class))
+                        .doOnNext(value -> {
+                            if (etag != null) {
+                                store(key, new Entry<>(etag, value));
+                            }
+                        });
+            });
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getNotModified() {
+        return notModified.get();
+    }
+
+    public long getModified() {
+        return modified.get();
+    }
+
+    private synchronized Entry<V> lookup(String key) {
+        return entries.get(key);
+    }
+
+    private synchronized void store(String key, Entry<V> entry) {
+        entries.put(key, entry);
+    }
+
+    private record Entry<V>(String etag, V value) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.roster.Roster;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.RosterChange;
+import org.slf4j.Logger;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a {@link RosterCache} current by applying the upstream's change feed instead of reloading the roster.
+ * <p>
+ * A load takes the feed's cursor before walking the roster, and once the loaded roster is installed the feed is
+ * followed from that cursor. Changes the walk already saw are replayed onto it harmlessly, because
+ * {@link RosterChange#applyTo(Roster)} is idempotent. The cursor is only used by the install of its own load: a roster
+ * the cache discards leaves it behind for the next load to clear, and a roster installed without one stops the feed.
+ * Changes are applied with {@link RosterCache#apply}, which leaves a refresh in flight alone, because the feed brings
+ * the roster it installs up to date in turn.
+ * <p>
+ * Every change and heartbeat confirms the snapshot as fresh, so the cache only reloads when the feed stays silent past
+ * the TTL. A dropped stream resumes from the last applied cursor with backoff; an expired cursor expires the snapshot,
+ * and the next read reloads it and starts over. Sync traffic is one long-lived request plus one event per change,
+ * rather than a full roster per TTL.
+ */
+public class RosterChangeSync {
+
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+
+    private final Logger logger = org.slf4j.LoggerFactory.getLogger(RosterChangeSync.class);
+
+    private final RosterCache rosterCache;
+    private final EmployeeChangeFeed changeFeed;
+    private final AtomicReference<String> loadedCursor = new AtomicReference<>();
+    private final AtomicReference<Disposable> following = new AtomicReference<>();
+
+    public RosterChangeSync(RosterCache rosterCache, EmployeeChangeFeed changeFeed) {
+        this.rosterCache = rosterCache;
+        this.changeFeed = changeFeed;
+        rosterCache.onInstall(roster -> {
+            String cursor = loadedCursor.getAndSet(null);
+            if (cursor != null) {
+                follow(cursor);
+            } else {
+                stop();
+            }
+        });
+    }
+
+    /**
+     * Wraps a roster load so the roster is followed from where the load started, once the cache installs it. If the
+     * feed is unavailable the roster is loaded anyway and kept current by reloads.
+     */
+    public Mono<List<Employee>> load(Supplier<Mono<List<Employee>>> fetch) {
+        return Mono.defer(() -> {
+            loadedCursor.set(null);
+            return changeFeed.latestCursor()
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .onErrorResume(e -> {
+                        logger.warn("Roster change feed unavailable, falling back to reloads: {}", e.getMessage());
+                        return Mono.just(Optional.empty());
+                    })
+                    .flatMap(cursor -> fetch.get().doOnSuccess(ignored -> cursor.ifPresent(loadedCursor::set)));
+        });
+    }
+
+    private void follow(String cursor) {
+        AtomicReference<String> position = new AtomicReference<>(cursor);
+        Disposable subscription = Flux.defer(() -> changeFeed.changes(position.get()))
+                .doOnNext(change -> {
+                    if (change.type() != RosterChange.Type.HEARTBEAT) {
+                        rosterCache.apply(change::applyTo);
+                        position.set(change.cursor());
+                    }
+                    rosterCache.confirmFresh();
+                })
+                .repeatWhen(completions -> completions.delayElements(MIN_BACKOFF))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, MIN_BACKOFF)
+                        .maxBackoff(MAX_BACKOFF)
+                        .transientErrors(true)
+                        .filter(e -> !(e instanceof WebClientResponseException.Gone))
+                        .doBeforeRetry(signal -> logger.debug("Roster change feed dropped, resuming: {}",
+                                signal.failure().getMessage())))
+                .subscribe(ignored -> { }, e -> {
+                    logger.info("Roster change feed cursor expired, reloading the roster on the next read");
+                    rosterCache.expire();
+                });
+        Disposable previous = following.getAndSet(subscription);
+        if (previous != null) {
+            previous.dispose();
+        }
+    }
+
+    private void stop() {
+        Disposable previous = following.getAndSet(null);
+        if (previous != null) {
+            logger.debug("Roster installed without a change feed cursor, relying on reloads");
+            previous.dispose();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.reliaquest.api.client;
+
+import java.util.List;
+
+/**
+ * The salary figures of the upstream's statistics endpoint that the API serves.
+ *
+ * @param highestSalary 0 if no employee has a salary
+ * @param topEarnerNames highest salary first
+ */
+public record RosterStats(int highestSalary, List<String> topEarnerNames) {
+}
@@ -0,0 +1,88 @@
+package com.reliaquest.api.client;
+
+import org.slf4j.Logger;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical upstream reads: while a call for a key is in flight, further callers for the same
+ * key subscribe to the pending {@link Mono} instead of issuing their own request, and all of them get its result.
+ * <p>
+ * Keeps running totals of how many upstream calls were made and how many callers they served, so the coalescing
+ * ratio can be observed.
+ */
+public class SingleFlight<K, V> {
+
+    private final Logger logger = org.slf4j.LoggerFactory.getLogger(SingleFlight.class);
+
+    private final String name;
+    private final Map<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong flights = new AtomicLong();
+    private final AtomicLong callers = new AtomicLong();
+    private final AtomicInteger maxCallersPerFlight = new AtomicInteger();
+
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> call) {
+        return Mono.defer(() -> {
+            Flight<V> flight = inFlight.computeIfAbsent(key, ignored -> start(key, call));
+            flight.callers.incrementAndGet();
+            callers.incrementAndGet();
+            return flight.result;
+        });
+    }
+
+    private Flight<V> start(K key, Supplier<Mono<V>> call) {
+        flights.incrementAndGet();
+        Flight<V> flight = new Flight<>();
+        flight.result = call.get()
+                // Before the result reaches any caller, so no caller can go on to join the finished flight.
+                .doOnTerminate(() -> inFlight.remove(key, flight))
+                .doFinally(signal -> {
+                    inFlight.remove(key, flight);
+                    int served = flight.callers.get();
+                    maxCallersPerFlight.accumulateAndGet(served, Math::max);
+                    logger.debug("{} flight for {} finished with {}, served {} callers", name, key, signal, served);
+                })
+                .cache();
+        return flight;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return number of upstream calls actually made
+     */
+    public long getFlights() {
+        return flights.get();
+    }
+
+    /**
+     * @return number of callers served, including the ones that joined an existing flight
+     */
+    public long getCallers() {
+        return callers.get();
+    }
+
+    public int getMaxCallersPerFlight() {
+        return maxCallersPerFlight.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    private static final class Flight<V> {
+        private final AtomicInteger callers = new AtomicInteger();
+        private Mono<V> result;
+    }
+}
@@ -0,0 +1,160 @@
+package com.reliaquest.api.client;
+
+import org.slf4j.Logger;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounds each upstream call by a timeout and stops calling an upstream that keeps failing.
+ * <ul>
+ *     <li>Closed: calls go through; {@code failureThreshold} failures in a row open the circuit.</li>
+ *     <li>Open: calls fail at once with {@link UpstreamUnavailableException} for {@code openDuration}.</li>
+ *     <li>Half-open: one probe call goes through; its success closes the circuit, its failure opens it again.</li>
+ * </ul>
+ * Only signs of an unhealthy upstream count as failures: timeouts, connection errors and 5xx responses. A 4xx, a
+ * 429 or a local {@link UpstreamRateLimitedException} says nothing about its health and leaves the state alone, as
+ * does a call cancelled before it completed (such as the losing request of a hedge).
+ * <p>
+ * Long-lived calls such as the change stream are not meant to go through here; they have no meaningful timeout.
+ */
+public class UpstreamCircuitBreaker {
+
+    private final Logger logger = org.slf4j.LoggerFactory.getLogger(UpstreamCircuitBreaker.class);
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong opened = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openUntilNanos;
+
+    public UpstreamCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    UpstreamCircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @param timeout bound on the whole call, including reading its body; {@link Duration#ZERO} for none
+     */
+    public <T> Mono<T> protect(Mono<T> call, Duration timeout) {
+        return Mono.defer(() -> {
+            try {
+                acquire();
+            } catch (UpstreamUnavailableException e) {
+                rejected.incrementAndGet();
+                return Mono.error(e);
+            }
+            Mono<T> bounded = timeout.isZero() ? call : call.timeout(timeout)
+                    .doOnError(TimeoutException.class, e -> timedOut.incrementAndGet());
+            return bounded
+                    .doOnSuccess(value -> onSuccess())
+                    .doOnError(e -> {
+                        if (isUpstreamFailure(e)) {
+                            onFailure();
+                        } else {
+                            onNeutral();
+                        }
+                    })
+                    .doFinally(signal -> {
+                        if (signal == SignalType.CANCEL) {
+                            onNeutral();
+                        }
+                    });
+        });
+    }
+
+    synchronized void acquire() {
+        switch (state) {
+            case OPEN -> {
+                long now = nanoClock.getAsLong();
+                if (now < openUntilNanos) {
+                    throw new UpstreamUnavailableException(Duration.ofNanos(openUntilNanos - now));
+                }
+                state = State.PROBING;
+                logger.info("Upstream circuit half-open, probing");
+            }
+            case PROBING -> throw new UpstreamUnavailableException(Duration.ZERO);
+            case CLOSED -> {
+            }
+        }
+    }
+
+    synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            logger.info("Upstream circuit closed");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.PROBING || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openUntilNanos = nanoClock.getAsLong() + openNanos;
+            opened.incrementAndGet();
+            logger.warn("Upstream circuit opened for {} ms after {} failures in a row",
+                    Duration.ofNanos(openNanos).toMillis(), consecutiveFailures);
+        }
+    }
+
+    /**
+     * A call that ended without saying anything about the upstream's health; it only hands back a probe.
+     */
+    synchronized void onNeutral() {
+        if (state == State.PROBING) {
+            state = State.OPEN;
+        }
+    }
+
+    static boolean isUpstreamFailure(Throwable e) {
+        return e instanceof TimeoutException
+                || e instanceof WebClientRequestException
+                || (e instanceof WebClientResponseException response && response.getStatusCode().is5xxServerError());
+    }
+
+    public synchronized boolean isOpen() {
+        return state != State.CLOSED;
+    }
+
+    /**
+     * @return number of times the circuit opened
+     */
+    public long getOpened() {
+        return opened.get();
+    }
+
+    /**
+     * @return number of calls failed locally while the circuit was open
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    /**
+     * @return number of calls that exceeded their timeout
+     */
+    public long getTimedOut() {
+        return timedOut.get();
+    }
+
+    private enum State {
+        CLOSED, OPEN, PROBING
+    }
+}
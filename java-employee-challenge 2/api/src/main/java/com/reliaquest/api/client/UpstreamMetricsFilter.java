@@ -0,0 +1,32 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Counts the response body bytes received from the mock server. Latency and status outcomes of the same calls are
+ * recorded by Spring's {@code http.client.requests} observation.
+ */
+public class UpstreamMetricsFilter implements ExchangeFilterFunction {
+
+    private final Counter bytesReceived;
+
+    public UpstreamMetricsFilter(MeterRegistry meterRegistry) {
+        this.bytesReceived = Counter.builder("employee.upstream.received")
+                .description("Response body bytes received from the mock employee server")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return next.exchange(request).map(response -> response.mutate()
+                .body(body -> body.doOnNext(buffer -> bytesReceived.increment(buffer.readableByteCount())))
+                .build());
+    }
+}
@@ -0,0 +1,202 @@
+package com.reliaquest.api.client;
+
+import org.slf4j.Logger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side token bucket that paces calls to the mock server so we stay inside its request budget.
+ * <p>
+ * The bucket starts from a configured guess and learns from the upstream: when a 429 arrives, the number of requests
+ * that succeeded since the last block becomes the new capacity, and the block length ({@code Retry-After} when the
+ * server sends one, otherwise a backoff that grows while 429s keep coming) becomes the refill window. While blocked,
+ * and whenever the next token is further away than {@code maxWait}, requests fail fast with
+ * {@link UpstreamRateLimitedException} instead of reaching the server; shorter waits are queued by delaying the call.
+ */
+public class UpstreamRateGovernor implements ExchangeFilterFunction {
+
+    private static final double BACKOFF_GROWTH = 1.5;
+
+    private final Logger logger = org.slf4j.LoggerFactory.getLogger(UpstreamRateGovernor.class);
+
+    private final Duration maxWait;
+    private final Duration maxBackoff;
+    private final LongSupplier nanoClock;
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong queued = new AtomicLong();
+
+    private double capacity;
+    private double tokens;
+    private long windowNanos;
+    private long backoffNanos;
+    private long lastRefillNanos;
+    private long blockedUntilNanos;
+    private int successesSinceBlock;
+    // True from a 429 until the next success; a 429 while still probing means the backoff was too short.
+    private boolean probing;
+
+    public UpstreamRateGovernor(int initialCapacity, Duration initialWindow, Duration maxWait, Duration maxBackoff) {
+        this(initialCapacity, initialWindow, maxWait, maxBackoff, System::nanoTime);
+    }
+
+    UpstreamRateGovernor(int initialCapacity, Duration initialWindow, Duration maxWait, Duration maxBackoff,
+                         LongSupplier nanoClock) {
+        this.capacity = initialCapacity;
+        this.tokens = initialCapacity;
+        this.windowNanos = initialWindow.toNanos();
+        this.backoffNanos = initialWindow.toNanos();
+        this.maxWait = maxWait;
+        this.maxBackoff = maxBackoff;
+        this.nanoClock = nanoClock;
+        this.lastRefillNanos = nanoClock.getAsLong();
+        this.blockedUntilNanos = lastRefillNanos;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        Duration delay;
+        try {
+            delay = reserve();
+        } catch (UpstreamRateLimitedException e) {
+            rejected.incrementAndGet();
+            logger.debug("Rejecting {} {} locally: {}", request.method(), request.url(), e.getMessage());
+            return Mono.error(e);
+        }
+        Mono<ClientResponse> exchange = next.exchange(request).doOnNext(this::observe);
+        if (delay.isZero()) {
+            return exchange;
+        }
+        queued.incrementAndGet();
+        // A queued call may outlive the window it was admitted in; drop it if the upstream blocked us meanwhile.
+        return Mono.delay(delay).then(Mono.defer(() -> {
+            Duration remainingBlock = remainingBlock();
+            return remainingBlock.isZero() ? exchange : Mono.error(new UpstreamRateLimitedException(remainingBlock));
+        }));
+    }
+
+    /**
+     * Takes a token, possibly one that has not been refilled yet.
+     *
+     * @return how long the caller has to wait before its token is available
+     * @throws UpstreamRateLimitedException if the upstream is blocking us or the wait would exceed {@code maxWait}
+     */
+    synchronized Duration reserve() {
+        long now = nanoClock.getAsLong();
+        if (now < blockedUntilNanos) {
+            throw new UpstreamRateLimitedException(Duration.ofNanos(blockedUntilNanos - now));
+        }
+        refill(now);
+        long waitNanos = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) * windowNanos / capacity);
+        if (waitNanos > maxWait.toNanos()) {
+            throw new UpstreamRateLimitedException(Duration.ofNanos(waitNanos));
+        }
+        tokens -= 1;
+        return Duration.ofNanos(waitNanos);
+    }
+
+    synchronized Duration remainingBlock() {
+        return Duration.ofNanos(Math.max(0, blockedUntilNanos - nanoClock.getAsLong()));
+    }
+
+    void observe(ClientResponse response) {
+        if (response.statusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            onThrottled(retryAfter(response.headers().asHttpHeaders()));
+        } else if (response.statusCode().is2xxSuccessful()) {
+            onSuccess();
+        }
+    }
+
+    synchronized void onSuccess() {
+        successesSinceBlock++;
+        probing = false;
+    }
+
+    synchronized void onThrottled(Duration retryAfter) {
+        throttled.incrementAndGet();
+        long now = nanoClock.getAsLong();
+        if (now < blockedUntilNanos) {
+            // A request that was already in flight when we learned about the block.
+            return;
+        }
+        if (retryAfter != null) {
+            backoffNanos = retryAfter.toNanos();
+        } else if (probing) {
+            backoffNanos = Math.min((long) (backoffNanos * BACKOFF_GROWTH), maxBackoff.toNanos());
+        }
+        if (successesSinceBlock > 0) {
+            capacity = successesSinceBlock;
+        }
+        windowNanos = Math.max(backoffNanos, 1);
+        blockedUntilNanos = now + backoffNanos;
+        // The server resets its counter once the block is over, so the full budget is available again from then on.
+        lastRefillNanos = blockedUntilNanos;
+        tokens = capacity;
+        successesSinceBlock = 0;
+        probing = true;
+        logger.warn("Upstream throttled us; blocking for {} ms, learned budget {} requests per {} ms",
+                Duration.ofNanos(backoffNanos).toMillis(), (int) capacity, Duration.ofNanos(windowNanos).toMillis());
+    }
+
+    private void refill(long now) {
+        if (now > lastRefillNanos) {
+            tokens = Math.min(capacity, tokens + (double) (now - lastRefillNanos) * capacity / windowNanos);
+            lastRefillNanos = now;
+        }
+    }
+
+    /**
+     * @return number of 429 responses received from the upstream
+     */
+    public long getThrottled() {
+        return throttled.get();
+    }
+
+    /**
+     * @return number of calls failed locally without contacting the upstream
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    /**
+     * @return number of calls that were delayed until a token became available
+     */
+    public long getQueued() {
+        return queued.get();
+    }
+
+    /**
+     * @return the wait a {@code Retry-After} header asks for, in seconds or as an HTTP date, or {@code null} if there
+     *     is no usable header
+     */
+    public static Duration retryAfter(HttpHeaders headers) {
+        String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                Duration duration = Duration.between(ZonedDateTime.now(date.getZone()), date);
+                return duration.isNegative() ? Duration.ZERO : duration;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+}
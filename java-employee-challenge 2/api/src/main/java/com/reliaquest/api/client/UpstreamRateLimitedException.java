@@ -0,0 +1,21 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+
+/**
+ * Raised locally, without contacting the upstream, when the {@link UpstreamRateGovernor} knows a call would be
+ * throttled.
+ */
+public class UpstreamRateLimitedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public UpstreamRateLimitedException(Duration retryAfter) {
+        super("Upstream request budget exhausted, retry after " + retryAfter.toMillis() + " ms");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
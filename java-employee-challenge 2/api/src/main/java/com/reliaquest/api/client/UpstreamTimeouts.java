@@ -0,0 +1,13 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+
+/**
+ * How long each kind of upstream call may take, body included, before it fails with a timeout.
+ *
+ * @param read roster pages and statistics
+ * @param lookup a single employee by id, per attempt when hedged
+ * @param write creates and deletes
+ */
+public record UpstreamTimeouts(Duration read, Duration lookup, Duration write) {
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+
+/**
+ * Raised locally, without contacting the upstream, while the {@link UpstreamCircuitBreaker} is open.
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public UpstreamUnavailableException(Duration retryAfter) {
+        super("Upstream circuit open, retry after " + retryAfter.toMillis() + " ms");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,149 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.client.EntityTagCache;
+import com.reliaquest.api.client.HedgedRead;
+import com.reliaquest.api.client.SingleFlight;
+import com.reliaquest.api.client.UpstreamCircuitBreaker;
+import com.reliaquest.api.client.UpstreamRateGovernor;
+import com.reliaquest.api.repository.RosterStore;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.service.UpstreamReadCaches;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Publishes the employee API's own counters next to the {@code http.server.requests} and {@code http.client.requests}
+ * timers that Spring Boot records for our endpoints and upstream calls.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder rosterMetrics(UpstreamReadCaches readCaches) {
+        RosterCache rosterCache = readCaches.getRosterCache();
+        return registry -> {
+            Gauge.builder("employee.roster.size", rosterCache, RosterCache::size)
+                    .description("Employees in the cached roster snapshot")
+                    .register(registry);
+            FunctionCounter.builder("employee.roster.refreshes", rosterCache, RosterCache::getRefreshes)
+                    .description("Background revalidations of a stale roster snapshot")
+                    .register(registry);
+            FunctionCounter.builder("employee.roster.refresh.failures", rosterCache, RosterCache::getFailedRefreshes)
+                    .description("Revalidations that failed and left the last good snapshot in place")
+                    .register(registry);
+            readCaches.getSingleFlights().forEach(singleFlight -> bindSingleFlight(registry, singleFlight));
+            readCaches.getEntityTagCaches().forEach(cache -> bindEntityTagCache(registry, cache));
+        };
+    }
+
+    /**
+     * Only bound when the store is enabled.
+     */
+    @Bean
+    public MeterBinder rosterStoreMetrics(ObjectProvider<RosterStore> rosterStore) {
+        return registry -> rosterStore.ifAvailable(store -> bindRosterStore(registry, store));
+    }
+
+    /**
+     * Only bound when hedging is enabled.
+     */
+    @Bean
+    public MeterBinder upstreamHedgingMetrics(ObjectProvider<HedgedRead> lookupHedging) {
+        return registry -> lookupHedging.ifAvailable(hedgedRead -> bindHedgedRead(registry, hedgedRead));
+    }
+
+    @Bean
+    public MeterBinder upstreamRateMetrics(UpstreamRateGovernor governor) {
+        return registry -> {
+            FunctionCounter.builder("employee.upstream.throttled", governor, UpstreamRateGovernor::getThrottled)
+                    .description("429 responses received from the mock employee server")
+                    .register(registry);
+            FunctionCounter.builder("employee.upstream.rejected", governor, UpstreamRateGovernor::getRejected)
+                    .description("Calls failed locally because the upstream budget was exhausted")
+                    .register(registry);
+            FunctionCounter.builder("employee.upstream.queued", governor, UpstreamRateGovernor::getQueued)
+                    .description("Calls delayed until the upstream budget allowed them")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder upstreamCircuitMetrics(UpstreamCircuitBreaker circuitBreaker) {
+        return registry -> {
+            Gauge.builder("employee.upstream.circuit.open", circuitBreaker, breaker -> breaker.isOpen() ? 1 : 0)
+                    .description("1 while the circuit to the mock employee server is open or probing")
+                    .register(registry);
+            FunctionCounter.builder("employee.upstream.circuit.opened", circuitBreaker,
+                            UpstreamCircuitBreaker::getOpened)
+                    .description("Times the circuit to the mock employee server opened")
+                    .register(registry);
+            FunctionCounter.builder("employee.upstream.circuit.rejected", circuitBreaker,
+                            UpstreamCircuitBreaker::getRejected)
+                    .description("Calls failed locally because the circuit was open")
+                    .register(registry);
+            FunctionCounter.builder("employee.upstream.timeouts", circuitBreaker, UpstreamCircuitBreaker::getTimedOut)
+                    .description("Upstream calls that exceeded their timeout")
+                    .register(registry);
+        };
+    }
+
+    private static void bindRosterStore(MeterRegistry registry, RosterStore rosterStore) {
+        Gauge.builder("employee.roster.store.pending", rosterStore, RosterStore::getPending)
+                .description("Roster changes queued for the local database")
+                .register(registry);
+        FunctionCounter.builder("employee.roster.store.rows", rosterStore, RosterStore::getRowsWritten)
+                .description("Rows inserted into or deleted from the local database by write-backs")
+                .register(registry);
+        FunctionCounter.builder("employee.roster.store.failures", rosterStore, RosterStore::getFailedFlushes)
+                .description("Write-backs that failed and were retried on the next flush")
+                .register(registry);
+    }
+
+    private static void bindHedgedRead(MeterRegistry registry, HedgedRead hedgedRead) {
+        FunctionCounter.builder("employee.upstream.hedged.reads", hedgedRead, HedgedRead::getReads)
+                .description("Hedgeable reads, not counting the hedges themselves")
+                .tag("read", hedgedRead.getName())
+                .register(registry);
+        FunctionCounter.builder("employee.upstream.hedged.hedges", hedgedRead, HedgedRead::getHedges)
+                .description("Second requests sent because a read was slower than the hedging percentile")
+                .tag("read", hedgedRead.getName())
+                .register(registry);
+        FunctionCounter.builder("employee.upstream.hedged.wins", hedgedRead, HedgedRead::getHedgeWins)
+                .description("Hedges that answered before the read they hedged")
+                .tag("read", hedgedRead.getName())
+                .register(registry);
+    }
+
+    private static void bindSingleFlight(MeterRegistry registry, SingleFlight<?, ?> singleFlight) {
+        FunctionCounter.builder("employee.upstream.coalesced.flights", singleFlight, SingleFlight::getFlights)
+                .description("Upstream reads actually issued")
+                .tag("read", singleFlight.getName())
+                .register(registry);
+        FunctionCounter.builder("employee.upstream.coalesced.callers", singleFlight, SingleFlight::getCallers)
+                .description("Callers served by upstream reads, including those that joined an in-flight read")
+                .tag("read", singleFlight.getName())
+                .register(registry);
+        Gauge.builder("employee.upstream.coalesced.max.callers", singleFlight, SingleFlight::getMaxCallersPerFlight)
+                .description("Most callers served by a single upstream read")
+                .tag("read", singleFlight.getName())
+                .register(registry);
+    }
+
+    private static void bindEntityTagCache(MeterRegistry registry, EntityTagCache<?> cache) {
+        FunctionCounter.builder("employee.upstream.conditional", cache, EntityTagCache::getNotModified)
+                .description("Conditional upstream reads, by whether a 304 let the last decoded value be reused")
+                .tag("read", cache.getName())
+                .tag("outcome", "not_modified")
+                .register(registry);
+        FunctionCounter.builder("employee.upstream.conditional", cache, EntityTagCache::getModified)
+                .description("Conditional upstream reads, by whether a 304 let the last decoded value be reused")
+                .tag("read", cache.getName())
+                .tag("outcome", "modified")
+                .register(registry);
+    }
+}
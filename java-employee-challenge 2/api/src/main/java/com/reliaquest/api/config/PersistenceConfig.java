@@ -0,0 +1,28 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.repository.EmployeeRepository;
+import com.reliaquest.api.repository.RosterStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class PersistenceConfig {
+
+    /**
+     * Closed on shutdown, which writes back whatever is still queued.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "employee.roster.store.enabled", havingValue = "true", matchIfMissing = true)
+    public RosterStore rosterStore(
+            EmployeeRepository repository, PlatformTransactionManager transactionManager,
+            @Value("${employee.roster.store.batch-size:500}") int batchSize,
+            @Value("${employee.roster.store.flush-interval:1s}") Duration flushInterval) {
+        return new RosterStore(repository, new TransactionTemplate(transactionManager), batchSize, flushInterval);
+    }
+}
@@ -0,0 +1,30 @@
+package com.reliaquest.api.config;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Reports which threads serve requests. With {@code spring.threads.virtual.enabled} on Java 21 or later, Spring Boot
+ * runs every Tomcat request, and so every blocking {@code EmployeeServiceImpl} call, on its own virtual thread, and
+ * concurrency is no longer capped by {@code server.tomcat.threads.max}. On an older runtime the setting is silently
+ * ignored, which is easy to miss in a comparison; hence the warning.
+ */
+@Configuration
+public class ThreadingConfig {
+
+    private final Logger logger = org.slf4j.LoggerFactory.getLogger(ThreadingConfig.class);
+
+    public ThreadingConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                           @Value("${server.tomcat.threads.max:200}") int maxPlatformThreads) {
+        int javaVersion = Runtime.version().feature();
+        if (virtualThreads && javaVersion < 21) {
+            logger.warn("spring.threads.virtual.enabled is ignored on Java {}; build and run with -PjavaVersion=21",
+                    javaVersion);
+        } else if (virtualThreads) {
+            logger.info("Serving requests on virtual threads");
+        } else {
+            logger.info("Serving requests on up to {} platform threads", maxPlatformThreads);
+        }
+    }
+}
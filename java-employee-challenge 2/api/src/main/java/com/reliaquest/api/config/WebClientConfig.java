@@ -1,26 +1,109 @@
 package com.reliaquest.api.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.client.EmployeePayloadDecoder;
+import com.reliaquest.api.client.HedgedRead;
+import com.reliaquest.api.client.UpstreamCircuitBreaker;
+import com.reliaquest.api.client.UpstreamMetricsFilter;
+import com.reliaquest.api.client.UpstreamRateGovernor;
+import com.reliaquest.api.client.UpstreamTimeouts;
 import com.reliaquest.api.constant.APIConstants;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.Duration;
+
 @Configuration
 public class WebClientConfig {
 
     private final Logger logger = org.slf4j.LoggerFactory.getLogger(WebClientConfig.class);
 
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder()
+    public UpstreamRateGovernor upstreamRateGovernor(
+            @Value("${employee.upstream.rate-limit.initial-capacity:5}") int initialCapacity,
+            @Value("${employee.upstream.rate-limit.initial-window:30s}") Duration initialWindow,
+            @Value("${employee.upstream.rate-limit.max-wait:2s}") Duration maxWait,
+            @Value("${employee.upstream.rate-limit.max-backoff:120s}") Duration maxBackoff) {
+        return new UpstreamRateGovernor(initialCapacity, initialWindow, maxWait, maxBackoff);
+    }
+
+    @Bean
+    public UpstreamCircuitBreaker upstreamCircuitBreaker(
+            @Value("${employee.upstream.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${employee.upstream.circuit-breaker.open-duration:10s}") Duration openDuration) {
+        return new UpstreamCircuitBreaker(failureThreshold, openDuration);
+    }
+
+    /**
+     * The change stream is exempt: it is not a call that completes, so it gets no timeout.
+     */
+    @Bean
+    public UpstreamTimeouts upstreamTimeouts(
+            @Value("${employee.upstream.timeout.read:10s}") Duration read,
+            @Value("${employee.upstream.timeout.lookup:2s}") Duration lookup,
+            @Value("${employee.upstream.timeout.write:5s}") Duration write) {
+        return new UpstreamTimeouts(read, lookup, write);
+    }
+
+    /**
+     * Off unless {@code employee.upstream.hedging.enabled=true}: every hedge is one more request against the upstream's
+     * rate limit, which only pays off where that costs less than the slowest lookups do.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "employee.upstream.hedging.enabled", havingValue = "true")
+    public HedgedRead employeeLookupHedging(
+            @Value("${employee.upstream.hedging.percentile:0.95}") double percentile,
+            @Value("${employee.upstream.hedging.min-delay:10ms}") Duration minDelay,
+            @Value("${employee.upstream.hedging.min-samples:20}") int minSamples,
+            @Value("${employee.upstream.hedging.window:256}") int window) {
+        return new HedgedRead("employee", percentile, minDelay, minSamples, window);
+    }
+
+    /**
+     * The Smile mapper is built from Boot's {@link Jackson2ObjectMapperBuilder}, as the mock server builds its own, so
+     * spring.jackson settings apply to Smile bodies as they do to JSON. It is not a bean, which would replace Boot's
+     * JSON {@link ObjectMapper}.
+     */
+    @Bean
+    public EmployeePayloadDecoder employeePayloadDecoder(ObjectMapper objectMapper,
+                                                         Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return new EmployeePayloadDecoder(objectMapper, objectMapperBuilder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * Built from Boot's {@link WebClient.Builder} so every upstream call is timed as {@code http.client.requests}.
+     * <p>
+     * With the {@code smile} wire format, responses are asked for in Smile and JSON is still accepted. Employee
+     * payloads are decoded from either by {@link com.reliaquest.api.client.EmployeePayloadDecoder}, and other bodies
+     * by the Smile codec WebFlux registers next to the JSON one. Request bodies stay JSON.
+     */
+    @Bean
+    public WebClient webClient(WebClient.Builder webClientBuilder, UpstreamRateGovernor upstreamRateGovernor,
+                               MeterRegistry meterRegistry,
+                               @Value("${employee.upstream.wire-format:smile}") String wireFormat) {
+        String accept = switch (wireFormat.toLowerCase()) {
+            case "smile" -> APIConstants.SMILE_MEDIA_TYPE + ", application/json;q=0.9";
+            case "json" -> "application/json";
+            default -> throw new IllegalArgumentException("Unknown employee.upstream.wire-format: " + wireFormat);
+        };
+        logger.info("Requesting {} from the upstream", accept);
+        return webClientBuilder
                 .baseUrl(APIConstants.BASE_URL)
                 .defaultHeader("Content-Type", "application/json")
-                .defaultHeader("Accept", "application/json")
+                .defaultHeader("Accept", accept)
                 .filter((request, next) -> {
                     logger.debug("WebClient Request: {} {}", request.method(), request.url());
                     return next.exchange(request);
                 })
+                .filter(upstreamRateGovernor)
+                .filter(new UpstreamMetricsFilter(meterRegistry))
                 .build();
     }
 }
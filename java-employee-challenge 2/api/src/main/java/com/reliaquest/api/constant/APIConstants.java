@@ -2,5 +2,6 @@ package com.reliaquest.api.constant;
 
 public class APIConstants {
     public static final String BASE_URL = "http://localhost:8112/api/v1/employee";
+    public static final String SMILE_MEDIA_TYPE = "application/x-jackson-smile";
 
 }
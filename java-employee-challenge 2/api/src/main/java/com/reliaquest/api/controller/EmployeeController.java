@@ -1,17 +1,24 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.dto.BulkCreateResult;
 import com.reliaquest.api.dto.Employee;
 import com.reliaquest.api.service.EmployeeService;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class EmployeeController implements IEmployeeController {
 
     @Autowired
@@ -57,7 +64,7 @@ public class EmployeeController implements IEmployeeController {
             employee = employeeService.getEmployeeById(id);
         } catch (Exception e) {
             logger.error("Error fetching employee: {}", e.getMessage());
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Unable to fetch employee by id", e);
+            throw new ResponseStatusException(UpstreamFailures.statusOf(e), "Unable to fetch employee by id", e);
         }
         return new ResponseEntity<>(employee, HttpStatus.OK);
     }
@@ -102,6 +109,17 @@ public class EmployeeController implements IEmployeeController {
         return new ResponseEntity<>(createdEmployee, HttpStatus.OK);
     }
 
+    /**
+     * Creates a JSON array of employees and streams one NDJSON line per input as it completes; a failed input is
+     * reported in its line rather than failing the request.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BulkCreateResult> createEmployees(@RequestBody List<Object> employeeInputs) {
+        logger.info("Create {} employees", employeeInputs.size());
+        return employeeService.createEmployees(employeeInputs);
+    }
+
     @Override
     public ResponseEntity<String> deleteEmployeeById(String id) {
         logger.info("Attempting to delete employee with ID: {}", id);
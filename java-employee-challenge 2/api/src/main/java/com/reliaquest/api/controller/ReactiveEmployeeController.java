@@ -0,0 +1,133 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.dto.BulkCreateResult;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * WebFlux variant of {@link EmployeeController}, active when the application runs on the reactive stack
+ * ({@code spring.main.web-application-type: reactive}). It serves the same routes and error contract as
+ * {@link IEmployeeController} without blocking the event loop.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveEmployeeController {
+
+    private final ReactiveEmployeeService employeeService;
+
+    private final Logger logger = org.slf4j.LoggerFactory.getLogger(ReactiveEmployeeController.class);
+
+    public ReactiveEmployeeController(ReactiveEmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @GetMapping()
+    public Mono<ResponseEntity<List<Employee>>> getAllEmployees() {
+        logger.info("Fetching all employees");
+        return employeeService.getAllEmployees()
+                .collectList()
+                .map(employees -> new ResponseEntity<>(employees, HttpStatus.OK))
+                .onErrorMap(e -> internalServerError("Error fetching employees: {}", "Unable to fetch employees list", e));
+    }
+
+    @GetMapping("/search/{searchString}")
+    public Mono<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(@PathVariable String searchString) {
+        logger.info("Searching employees with name containing: {}", searchString);
+        return employeeService.getEmployeesByNameSearch(searchString)
+                .collectList()
+                .map(employees -> new ResponseEntity<>(employees, HttpStatus.OK))
+                .onErrorMap(e -> internalServerError("Error searching employees: {}", "Unable to search employees by name", e));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
+        logger.info("Fetching employee with ID: {}", id);
+        return employeeService.getEmployeeById(id)
+                .map(employee -> new ResponseEntity<>(employee, HttpStatus.OK))
+                .onErrorMap(e -> {
+                    logger.error("Error fetching employee: {}", e.getMessage());
+                    return new ResponseStatusException(UpstreamFailures.statusOf(e), "Unable to fetch employee by id", e);
+                });
+    }
+
+    @GetMapping("/highestSalary")
+    public Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        logger.info("Fetching highest salary among employees");
+        return employeeService.getHighestSalary()
+                .map(highestSalary -> new ResponseEntity<>(highestSalary, HttpStatus.OK))
+                .onErrorMap(e -> internalServerError("Error fetching highest salary: {}", "Unable to fetch highest salary", e));
+    }
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public Mono<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        logger.info("Fetching top ten highest earning employee names");
+        return employeeService.getTopTenHighestEarningEmployeeNames()
+                .collectList()
+                .map(topTenNames -> new ResponseEntity<>(topTenNames, HttpStatus.OK))
+                .onErrorMap(e -> internalServerError("Error fetching top ten highest earning employee names: {}",
+                        "Unable to fetch top ten highest earning employee names", e));
+    }
+
+    @PostMapping()
+    public Mono<ResponseEntity<Object>> createEmployee(@RequestBody Object employeeInput) {
+        logger.info("Create employee");
+        return employeeService.createEmployee(employeeInput)
+                .map(createdEmployee -> new ResponseEntity<>(createdEmployee, HttpStatus.OK))
+                .onErrorMap(e -> internalServerError("Error creating employee: {}", "Unable to create employee", e));
+    }
+
+    /**
+     * Accepts a JSON array or NDJSON; with NDJSON the first employees are sent upstream while the rest of the body is
+     * still arriving. One NDJSON line per input is streamed back as it completes.
+     */
+    @PostMapping(value = "/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BulkCreateResult> createEmployees(@RequestBody Flux<Object> employeeInputs) {
+        logger.info("Create employees in bulk");
+        return employeeService.createEmployees(employeeInputs);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        logger.info("Attempting to delete employee with ID: {}", id);
+        return employeeService.deleteEmployee(id)
+                .flatMap(isDeleted -> {
+                    if (!isDeleted) {
+                        logger.warn("Employee with ID: {} not found", id);
+                        return Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found"));
+                    }
+                    logger.info("Successfully deleted employee with ID: {}", id);
+                    return Mono.just(new ResponseEntity<>("Employee deleted successfully", HttpStatus.OK));
+                })
+                .onErrorMap(e -> {
+                    if (e instanceof ResponseStatusException responseStatusException) {
+                        logger.error("Error during deletion: {}", responseStatusException.getReason());
+                        return e;
+                    }
+                    logger.error("Unexpected error while deleting employee with ID: {}: {}", id, e.getMessage());
+                    return new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Unable to delete employee by id", e);
+                });
+    }
+
+    private ResponseStatusException internalServerError(String logMessage, String reason, Throwable e) {
+        logger.error(logMessage, e.getMessage());
+        return new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, reason, e);
+    }
+}
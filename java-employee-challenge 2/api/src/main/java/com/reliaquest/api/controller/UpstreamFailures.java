@@ -0,0 +1,30 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.client.UpstreamUnavailableException;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Tells apart failures caused by the state of the mock server, so they are not all reported as our own 500.
+ */
+final class UpstreamFailures {
+
+    private UpstreamFailures() {
+    }
+
+    /**
+     * @return 503 while the upstream circuit is open, 504 if the upstream call timed out, otherwise 500
+     */
+    static HttpStatus statusOf(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof UpstreamUnavailableException) {
+                return HttpStatus.SERVICE_UNAVAILABLE;
+            }
+            if (cause instanceof TimeoutException) {
+                return HttpStatus.GATEWAY_TIMEOUT;
+            }
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+}
@@ -0,0 +1,22 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one input of a bulk create, streamed back as soon as that input has been handled.
+ *
+ * @param index position of the input in the request, starting at 0
+ * @param employee the created employee, or {@code null} if creating it failed
+ * @param error why creating it failed, or {@code null} on success
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkCreateResult(long index, Employee employee, String error) {
+
+    public static BulkCreateResult created(long index, Employee employee) {
+        return new BulkCreateResult(index, employee, null);
+    }
+
+    public static BulkCreateResult failed(long index, String error) {
+        return new BulkCreateResult(index, null, error);
+    }
+}
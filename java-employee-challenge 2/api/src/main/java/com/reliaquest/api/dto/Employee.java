@@ -1,7 +1,15 @@
 package com.reliaquest.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 public class Employee {
     private Integer id;
+    /**
+     * The upstream's own identifier, a UUID, which does not fit {@link #id}. Kept to tell apart employees whose
+     * attributes are otherwise equal, and not part of this API's responses.
+     */
+    @JsonIgnore
+    private String upstreamId;
     private String name;
     private Integer salary;
     private Integer age;
@@ -36,6 +44,14 @@ public class Employee {
         this.id = id;
     }
 
+    public String getUpstreamId() {
+        return upstreamId;
+    }
+
+    public void setUpstreamId(String upstreamId) {
+        this.upstreamId = upstreamId;
+    }
+
     public String getName() {
         return name;
     }
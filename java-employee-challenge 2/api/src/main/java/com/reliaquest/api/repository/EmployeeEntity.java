@@ -0,0 +1,72 @@
+package com.reliaquest.api.repository;
+
+import com.reliaquest.api.dto.Employee;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * One row of the locally persisted roster.
+ * <p>
+ * The upstream's UUID is kept, as {@code upstream_id}, so a preloaded roster matches the change feed's events. It is
+ * not the key: a roster without the feed may contain the same employee twice, so rows are keyed by a surrogate
+ * {@code rowId} instead. Row ids come from a sequence that hands out blocks of
+ * 500, matching the JDBC batch size. An identity column would make Hibernate insert one row at a time. Ascending row
+ * ids keep the roster's order.
+ */
+@Entity
+@Table(name = "roster_employee")
+public class EmployeeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "roster_employee_seq")
+    @SequenceGenerator(name = "roster_employee_seq", sequenceName = "roster_employee_seq", allocationSize = 500)
+    private Long rowId;
+
+    @Column(name = "employee_id")
+    private Integer employeeId;
+
+    @Column(name = "upstream_id")
+    private String upstreamId;
+
+    private String name;
+    private Integer salary;
+    private Integer age;
+    private String title;
+    private String email;
+
+    protected EmployeeEntity() {
+    }
+
+    private EmployeeEntity(Employee employee) {
+        this.employeeId = employee.getId();
+        this.upstreamId = employee.getUpstreamId();
+        this.name = employee.getName();
+        this.salary = employee.getSalary();
+        this.age = employee.getAge();
+        this.title = employee.getTitle();
+        this.email = employee.getEmail();
+    }
+
+    public static EmployeeEntity of(Employee employee) {
+        return new EmployeeEntity(employee);
+    }
+
+    public Employee toEmployee() {
+        Employee employee = new Employee(employeeId, name, salary, age, title, email);
+        employee.setUpstreamId(upstreamId);
+        return employee;
+    }
+
+    public Long getRowId() {
+        return rowId;
+    }
+
+    void setRowId(Long rowId) {
+        this.rowId = rowId;
+    }
+}
@@ -1,7 +1,6 @@
 package com.reliaquest.api.repository;
 
-import com.reliaquest.api.dto.Employee;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<EmployeeEntity, Long> {
 }
@@ -0,0 +1,309 @@
+package com.reliaquest.api.repository;
+
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.roster.Roster;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.RosterChange;
+import org.slf4j.Logger;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps a copy of the cached roster in the local database so that a restarted API can serve its last known roster
+ * straight away, instead of first walking the upstream's rate-limited roster.
+ * <p>
+ * On {@link #attach(RosterCache) attach} the persisted roster is preloaded into the cache. From then on the store
+ * writes behind the cache. Every roster the cache installs is queued to be reconciled with the table, and every
+ * change to it as an insert or delete, without touching the database on the request path. The queue is written back
+ * every {@code flushInterval} in one transaction. A reconciliation supersedes whatever was queued before it. An
+ * insert and a delete of the same employee cancel out, and the remaining rows go out in JDBC batches of
+ * {@code batchSize}.
+ * <p>
+ * Rows are matched to roster entries by {@link Employee} instance, since neither the ids nor the attributes need to be
+ * unique. Reconciling an installed roster matches its entries to the persisted rows by {@link Roster.Key} instead,
+ * keeps the rows that match and only inserts and deletes the difference, so a refresh that changes nothing writes
+ * nothing. Employees new to the table are appended to it, so a preloaded roster may list them in another order than
+ * the upstream until its first refresh. A write-back that fails is rolled back and retried on the next flush.
+ */
+public class RosterStore implements AutoCloseable {
+
+    private final Logger logger = org.slf4j.LoggerFactory.getLogger(RosterStore.class);
+
+    private final EmployeeRepository repository;
+    private final TransactionOperations transactions;
+    private final int batchSize;
+    private final ScheduledExecutorService flusher;
+    private final Queue<Write> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong rowsWritten = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+    private Map<Employee, Long> rowIds = new IdentityHashMap<>();
+    private List<Write> unwritten = List.of();
+
+    /**
+     * @param flushInterval time between write-backs, or zero to only write back on {@link #flush()}
+     */
+    public RosterStore(EmployeeRepository repository, TransactionOperations transactions, int batchSize,
+                       Duration flushInterval) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive, got " + batchSize);
+        }
+        this.repository = repository;
+        this.transactions = transactions;
+        this.batchSize = batchSize;
+        if (flushInterval.isZero()) {
+            this.flusher = null;
+        } else {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "roster-store-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = flushInterval.toMillis();
+            flusher.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Preloads the persisted roster into the cache, if there is one, and follows the cache from then on.
+     */
+    public void attach(RosterCache rosterCache) {
+        List<Employee> persisted = load();
+        rosterCache.onInstall(this::follow);
+        if (persisted.isEmpty()) {
+            return;
+        }
+        Roster roster = rosterCache.preload(persisted);
+        if (roster != null) {
+            logger.info("Serving the persisted roster of {} employees until the upstream is reached", roster.size());
+            roster.onChange(this::record);
+        }
+    }
+
+    /**
+     * Writes everything queued so far back to the database.
+     *
+     * @return number of queued writes that were written back
+     */
+    public synchronized int flush() {
+        List<Write> writes = new ArrayList<>(unwritten);
+        pendingCount.addAndGet(-writes.size());
+        unwritten = List.of();
+        Write write;
+        while ((write = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            writes.add(write);
+        }
+        if (writes.isEmpty()) {
+            return 0;
+        }
+        int start = lastReconcile(writes);
+        try {
+            WriteBack writeBack = transactions.execute(status -> apply(writes.subList(start, writes.size())));
+            commit(writeBack);
+            rowsWritten.addAndGet(writeBack.rows());
+            logger.debug("Wrote {} roster changes back as {} rows", writes.size(), writeBack.rows());
+            return writes.size();
+        } catch (RuntimeException e) {
+            failedFlushes.incrementAndGet();
+            logger.warn("Unable to persist the roster, retrying on the next flush: {}", e.getMessage());
+            unwritten = List.copyOf(writes.subList(start, writes.size()));
+            pendingCount.addAndGet(unwritten.size());
+            return 0;
+        }
+    }
+
+    /**
+     * Stops the periodic write-back and writes back what is still queued.
+     */
+    @Override
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    /**
+     * @return number of changes queued but not yet written back
+     */
+    public int getPending() {
+        return pendingCount.get();
+    }
+
+    /**
+     * @return number of rows inserted or deleted by write-backs
+     */
+    public long getRowsWritten() {
+        return rowsWritten.get();
+    }
+
+    public long getFailedFlushes() {
+        return failedFlushes.get();
+    }
+
+    private synchronized List<Employee> load() {
+        List<EmployeeEntity> entities = transactions.execute(status -> repository.findAll(Sort.by("rowId")));
+        List<Employee> employees = new ArrayList<>(entities.size());
+        for (EmployeeEntity entity : entities) {
+            Employee employee = entity.toEmployee();
+            rowIds.put(employee, entity.getRowId());
+            employees.add(employee);
+        }
+        return employees;
+    }
+
+    /**
+     * A change that reaches the queue before a reconciliation is always part of the roster it copies, since both are
+     * queued under the same lock, after the roster has been changed.
+     */
+    private void follow(Roster roster) {
+        roster.onChange(this::record);
+        synchronized (pending) {
+            enqueue(new Write(Write.Kind.RECONCILE, null, roster.employees()));
+        }
+    }
+
+    private void record(RosterChange change) {
+        Write.Kind kind = change.type() == RosterChange.Type.CREATED ? Write.Kind.INSERT : Write.Kind.DELETE;
+        synchronized (pending) {
+            enqueue(new Write(kind, change.employee(), null));
+        }
+    }
+
+    private void enqueue(Write write) {
+        pending.add(write);
+        pendingCount.incrementAndGet();
+    }
+
+    private static int lastReconcile(List<Write> writes) {
+        for (int i = writes.size() - 1; i >= 0; i--) {
+            if (writes.get(i).kind() == Write.Kind.RECONCILE) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Writes the changes to the table. The row ids are only updated by {@link #commit(WriteBack)} once the transaction
+     * has committed, so after a rollback they still match the table.
+     */
+    private WriteBack apply(List<Write> writes) {
+        Map<Employee, Long> rows = rowIds;
+        List<Employee> added = new ArrayList<>();
+        List<Long> deletes = new ArrayList<>();
+        int start = 0;
+        if (writes.get(0).kind() == Write.Kind.RECONCILE) {
+            rows = reconcile(writes.get(0).roster(), added, deletes);
+            start = 1;
+        }
+        Set<Employee> inserts = Collections.newSetFromMap(new IdentityHashMap<>());
+        inserts.addAll(added);
+        Set<Employee> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Write write : writes.subList(start, writes.size())) {
+            Employee employee = write.employee();
+            if (write.kind() == Write.Kind.INSERT) {
+                if ((!rows.containsKey(employee) || removed.contains(employee)) && inserts.add(employee)) {
+                    added.add(employee);
+                }
+            } else if (!inserts.remove(employee)) {
+                Long rowId = rows.get(employee);
+                if (rowId != null && removed.add(employee)) {
+                    deletes.add(rowId);
+                }
+            }
+        }
+        for (int from = 0; from < deletes.size(); from += batchSize) {
+            repository.deleteAllByIdInBatch(deletes.subList(from, Math.min(from + batchSize, deletes.size())));
+        }
+        // keeps the first occurrence of every employee still to be inserted, in the order they were added
+        added.removeIf(employee -> !inserts.remove(employee));
+        return new WriteBack(rows, removed, insert(added), deletes.size() + added.size());
+    }
+
+    /**
+     * Matches the roster's entries to the persisted rows by {@link Roster.Key}, collecting the entries without a row
+     * into {@code added} and the rows without an entry into {@code deletes}.
+     *
+     * @return the row ids of the roster's entries that already have a row
+     */
+    private Map<Employee, Long> reconcile(List<Employee> roster, List<Employee> added, List<Long> deletes) {
+        Map<Roster.Key, Deque<Long>> persisted = new HashMap<>();
+        rowIds.forEach((employee, rowId) ->
+                persisted.computeIfAbsent(Roster.Key.of(employee), ignored -> new ArrayDeque<>(1)).add(rowId));
+        Map<Employee, Long> kept = new IdentityHashMap<>();
+        for (Employee employee : roster) {
+            Deque<Long> matches = persisted.get(Roster.Key.of(employee));
+            Long rowId = matches == null ? null : matches.poll();
+            if (rowId != null) {
+                kept.put(employee, rowId);
+            } else {
+                added.add(employee);
+            }
+        }
+        persisted.values().forEach(deletes::addAll);
+        return kept;
+    }
+
+    /**
+     * @return the row ids of the inserted employees
+     */
+    private Map<Employee, Long> insert(List<Employee> employees) {
+        Map<Employee, Long> inserted = new IdentityHashMap<>();
+        for (int from = 0; from < employees.size(); from += batchSize) {
+            List<Employee> batch = employees.subList(from, Math.min(from + batchSize, employees.size()));
+            List<EmployeeEntity> entities = repository.saveAll(batch.stream().map(EmployeeEntity::of).toList());
+            repository.flush();
+            for (int i = 0; i < batch.size(); i++) {
+                inserted.put(batch.get(i), entities.get(i).getRowId());
+            }
+        }
+        return inserted;
+    }
+
+    private void commit(WriteBack writeBack) {
+        rowIds = writeBack.rowIds();
+        writeBack.removed().forEach(rowIds::remove);
+        rowIds.putAll(writeBack.inserted());
+    }
+
+    /**
+     * @param rowIds the row ids before the write-back, replaced if it reconciled a roster
+     * @param rows number of rows inserted or deleted
+     */
+    private record WriteBack(Map<Employee, Long> rowIds, Set<Employee> removed, Map<Employee, Long> inserted,
+                             int rows) {
+    }
+
+    private record Write(Kind kind, Employee employee, List<Employee> roster) {
+        enum Kind {
+            RECONCILE,
+            INSERT,
+            DELETE
+        }
+    }
+}
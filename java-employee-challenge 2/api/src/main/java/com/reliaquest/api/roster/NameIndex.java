@@ -0,0 +1,110 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.dto.Employee;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * N-gram inverted index over employee names for case-insensitive substring search.
+ * <p>
+ * Every 1-, 2- and 3-gram of a lowercased name maps to the employees containing it. Queries of up to three characters
+ * are answered straight from a single posting list; longer queries intersect the posting lists of their trigrams,
+ * starting with the shortest, and only the surviving candidates are checked with {@link String#contains}. Posting
+ * lists keep insertion order, so results come back in roster order. Not thread-safe on its own; {@link Roster}
+ * guards it with its lock.
+ */
+class NameIndex {
+
+    private static final int GRAM = 3;
+
+    private final Map<String, Set<Employee>> postings = new HashMap<>();
+    private final Map<Employee, String> normalisedNames = new IdentityHashMap<>();
+
+    NameIndex(Collection<Employee> employees) {
+        employees.forEach(this::add);
+    }
+
+    void add(Employee employee) {
+        if (employee.getName() == null) {
+            return;
+        }
+        String name = normalise(employee.getName());
+        normalisedNames.put(employee, name);
+        for (String gram : grams(name)) {
+            postings.computeIfAbsent(gram, ignored -> new LinkedHashSet<>()).add(employee);
+        }
+    }
+
+    void remove(Employee employee) {
+        String name = normalisedNames.remove(employee);
+        if (name == null) {
+            return;
+        }
+        for (String gram : grams(name)) {
+            Set<Employee> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(employee);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param searchString a non-empty fragment; an empty fragment matches every named employee and is left to the
+     *                     caller, which knows the roster order
+     */
+    List<Employee> search(String searchString) {
+        String query = normalise(searchString);
+        if (query.length() <= GRAM) {
+            return new ArrayList<>(postings.getOrDefault(query, Set.of()));
+        }
+
+        List<Set<Employee>> lists = new ArrayList<>(query.length() - GRAM + 1);
+        for (int i = 0; i + GRAM <= query.length(); i++) {
+            Set<Employee> posting = postings.get(query.substring(i, i + GRAM));
+            if (posting == null) {
+                return List.of();
+            }
+            lists.add(posting);
+        }
+        lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+        List<Employee> matches = new ArrayList<>();
+        candidates:
+        for (Employee candidate : lists.get(0)) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).contains(candidate)) {
+                    continue candidates;
+                }
+            }
+            if (normalisedNames.get(candidate).contains(query)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    private static Set<String> grams(String name) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int length = 1; length <= GRAM; length++) {
+            for (int i = 0; i + length <= name.length(); i++) {
+                grams.add(name.substring(i, i + length));
+            }
+        }
+        return grams;
+    }
+
+    private static String normalise(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
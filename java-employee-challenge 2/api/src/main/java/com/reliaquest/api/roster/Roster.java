@@ -0,0 +1,236 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.dto.Employee;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe, locally held view of the upstream employee roster.
+ * <p>
+ * Every write costs the same whatever the roster size. The roster is kept in an insertion-ordered set, and the
+ * entries a write looks for are found through two maps: one from the employee's identity (the upstream's id when
+ * known, otherwise the attributes), the other from the lowercased name, each mapping to its matching entries in
+ * roster order. Secondary indexes are maintained incrementally. Readers get an immutable copy of the roster that is
+ * only rebuilt by the first read after a write, so a burst of writes costs one copy and repeated reads between writes
+ * do not allocate.
+ * <p>
+ * Every employee added or removed is also reported, as a {@link RosterChange}, to the listener set with
+ * {@link #onChange(Consumer)}.
+ */
+public class Roster {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<Employee> employees;
+    private final Map<Key, Set<Employee>> byKey = new HashMap<>();
+    private final Map<String, Set<Employee>> byName = new HashMap<>();
+    private final SalaryIndex salaryIndex;
+    private final NameIndex nameIndex;
+    private volatile List<Employee> view;
+    private volatile Consumer<RosterChange> changeListener = change -> { };
+
+    private Roster(Collection<Employee> employees) {
+        this.employees = new LinkedHashSet<>(employees);
+        this.employees.forEach(this::link);
+        this.salaryIndex = new SalaryIndex(this.employees);
+        this.nameIndex = new NameIndex(this.employees);
+        this.view = List.copyOf(this.employees);
+    }
+
+    public static Roster of(Collection<Employee> employees) {
+        return new Roster(employees);
+    }
+
+    /**
+     * Sets the callback run with every change, right after it is applied and while the write lock is held. The
+     * change carries the very {@link Employee} instance added to or removed from the roster, and no cursor.
+     */
+    public void onChange(Consumer<RosterChange> listener) {
+        this.changeListener = listener;
+    }
+
+    public List<Employee> employees() {
+        List<Employee> current = view;
+        if (current != null) {
+            return current;
+        }
+        lock.readLock().lock();
+        try {
+            // Concurrent readers may both copy; writers are excluded, so the copies are equal.
+            current = view;
+            if (current == null) {
+                current = List.copyOf(employees);
+                view = current;
+            }
+            return current;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return employees.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Case-insensitive substring search on employee names, in roster order.
+     */
+    public List<Employee> searchByName(String searchString) {
+        if (searchString.isEmpty()) {
+            return employees().stream().filter(employee -> employee.getName() != null).toList();
+        }
+        lock.readLock().lock();
+        try {
+            return nameIndex.search(searchString);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<Integer> highestSalary() {
+        lock.readLock().lock();
+        try {
+            return salaryIndex.highestSalary();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Employee> topEarners(int limit) {
+        lock.readLock().lock();
+        try {
+            return salaryIndex.topEarners(limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            insert(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the employee unless the same one is already present, so a change that has already been applied, e.g. by
+     * this service's own create, is not applied twice. Employees are the same if they have the same upstream id, or,
+     * where that is unknown, the same attributes.
+     */
+    public boolean addIfAbsent(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            if (byKey.containsKey(Key.of(employee))) {
+                return false;
+            }
+            insert(employee);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the same employee, as {@link #addIfAbsent(Employee)} tells them apart, or the first of several equal
+     * ones, if there is one.
+     */
+    public boolean remove(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            return delete(first(byKey.get(Key.of(employee))));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the first employee whose name matches ignoring case, mirroring the mock server's delete semantics.
+     */
+    public boolean removeByName(String name) {
+        lock.writeLock().lock();
+        try {
+            return name != null && delete(first(byName.get(normalise(name))));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void insert(Employee employee) {
+        if (!employees.add(employee)) {
+            return;
+        }
+        link(employee);
+        salaryIndex.add(employee);
+        nameIndex.add(employee);
+        view = null;
+        changeListener.accept(new RosterChange(RosterChange.Type.CREATED, employee, null));
+    }
+
+    private boolean delete(Employee removed) {
+        if (removed == null || !employees.remove(removed)) {
+            return false;
+        }
+        unlink(byKey, Key.of(removed), removed);
+        if (removed.getName() != null) {
+            unlink(byName, normalise(removed.getName()), removed);
+        }
+        salaryIndex.remove(removed);
+        nameIndex.remove(removed);
+        view = null;
+        changeListener.accept(new RosterChange(RosterChange.Type.DELETED, removed, null));
+        return true;
+    }
+
+    private void link(Employee employee) {
+        byKey.computeIfAbsent(Key.of(employee), ignored -> new LinkedHashSet<>(2)).add(employee);
+        if (employee.getName() != null) {
+            byName.computeIfAbsent(normalise(employee.getName()), ignored -> new LinkedHashSet<>(2)).add(employee);
+        }
+    }
+
+    private static <K> void unlink(Map<K, Set<Employee>> map, K key, Employee employee) {
+        Set<Employee> matches = map.get(key);
+        if (matches != null && matches.remove(employee) && matches.isEmpty()) {
+            map.remove(key);
+        }
+    }
+
+    private static Employee first(Set<Employee> matches) {
+        return matches == null || matches.isEmpty() ? null : matches.iterator().next();
+    }
+
+    private static String normalise(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Identifies an entry by the upstream's id, which tells apart employees with equal attributes, or by its
+     * attributes if the id is unknown. Two employees with the same key are the same employee to a roster.
+     */
+    public record Key(String upstreamId, Integer id, String name, Integer salary, Integer age, String title,
+                      String email) {
+        public static Key of(Employee employee) {
+            if (employee.getUpstreamId() != null) {
+                return new Key(employee.getUpstreamId(), null, null, null, null, null, null);
+            }
+            return new Key(null, employee.getId(), employee.getName(), employee.getSalary(), employee.getAge(),
+                    employee.getTitle(), employee.getEmail());
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.dto.Employee;
+import org.slf4j.Logger;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * In-process snapshot of the upstream roster with stale-while-revalidate semantics.
+ * <ul>
+ *     <li>A fresh snapshot is served without touching the upstream.</li>
+ *     <li>A stale snapshot is still served, while a single background refresh is started.</li>
+ *     <li>A failed refresh (including 429 responses) keeps the last good snapshot in place.</li>
+ *     <li>Only a cold cache makes the caller wait on the upstream. Callers that find it cold share one load.</li>
+ * </ul>
+ * Successful writes are applied to the snapshot directly via {@link #update(Consumer)}. While something else keeps the
+ * snapshot current, such as a change feed, it applies what it learns via {@link #apply(Consumer)} and can hold off the
+ * refreshes with {@link #confirmFresh()}. A roster kept
+ * from an earlier run can be {@link #preload(Collection) preloaded} so that even the first read does not wait.
+ */
+public class RosterCache {
+
+    /** Loads a cold cache repeats because of writes made meanwhile, before installing one regardless. */
+    private static final int MAX_COLD_RELOADS = 3;
+
+    private final Logger logger = org.slf4j.LoggerFactory.getLogger(RosterCache.class);
+
+    private final Supplier<Mono<List<Employee>>> loader;
+    private final Duration ttl;
+    private final Clock clock;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicReference<Mono<Roster>> coldLoad = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicLong writeGeneration = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong failedRefreshes = new AtomicLong();
+    private final List<Consumer<Roster>> installListeners = new CopyOnWriteArrayList<>();
+
+    public RosterCache(Supplier<Mono<List<Employee>>> loader, Duration ttl) {
+        this(loader, ttl, Clock.systemUTC());
+    }
+
+    public RosterCache(Supplier<Mono<List<Employee>>> loader, Duration ttl, Clock clock) {
+        this.loader = loader;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public Mono<Roster> get() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            return loadCold();
+        }
+        if (current.isStale(clock.instant(), ttl)) {
+            refreshInBackground();
+        }
+        return Mono.just(current.roster());
+    }
+
+    /**
+     * Applies a successful upstream write to the cached roster. A load that was already in flight when the write
+     * happened will not overwrite it: a refresh is discarded and the snapshot marked stale instead, so the next read
+     * revalidates, and the first load of a cold cache, which has no snapshot to apply the write to, is repeated.
+     */
+    public void update(Consumer<Roster> mutation) {
+        writeGeneration.incrementAndGet();
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            mutation.accept(current.roster());
+        }
+    }
+
+    /**
+     * Applies a change the upstream has reported to the cached roster, e.g. from its change feed. Unlike
+     * {@link #update(Consumer)} this leaves an in-flight refresh alone: whoever reports the changes must also bring
+     * the roster that refresh installs up to date, as a change feed followed from where the load started does.
+     */
+    public void apply(Consumer<Roster> change) {
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            change.accept(current.roster());
+        }
+    }
+
+    public void invalidate() {
+        snapshot.set(null);
+    }
+
+    /**
+     * Restarts the snapshot's time to live, because it is known to match the upstream.
+     */
+    public void confirmFresh() {
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            snapshot.compareAndSet(current, new Snapshot(current.roster(), clock.instant()));
+        }
+    }
+
+    /**
+     * Marks the snapshot stale, so the next read starts a refresh while still being served from it.
+     */
+    public void expire() {
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            snapshot.compareAndSet(current, new Snapshot(current.roster(), Instant.EPOCH));
+        }
+    }
+
+    /**
+     * Installs a roster that did not come from the loader, e.g. one persisted by an earlier run, unless a snapshot is
+     * already installed. It is installed stale, so it is served at once and the first read revalidates it in the
+     * background. Install listeners are not run for it.
+     *
+     * @return the installed roster, or {@code null} if the cache was already loaded
+     */
+    public Roster preload(Collection<Employee> employees) {
+        Roster roster = Roster.of(employees);
+        return snapshot.compareAndSet(null, new Snapshot(roster, Instant.EPOCH)) ? roster : null;
+    }
+
+    /**
+     * Adds a callback run with every roster the loader installs, right after installing it.
+     */
+    public void onInstall(Consumer<Roster> listener) {
+        installListeners.add(listener);
+    }
+
+    /**
+     * @return whether a snapshot is installed, i.e. {@link #get()} answers without waiting on the upstream
+     */
+    public boolean isLoaded() {
+        return snapshot.get() != null;
+    }
+
+    /**
+     * @return number of employees in the current snapshot, or 0 while the cache is cold
+     */
+    public int size() {
+        Snapshot current = snapshot.get();
+        return current == null ? 0 : current.roster().size();
+    }
+
+    public long getRefreshes() {
+        return refreshes.get();
+    }
+
+    public long getFailedRefreshes() {
+        return failedRefreshes.get();
+    }
+
+    private Mono<Roster> loadCold() {
+        return Mono.defer(() -> {
+            Snapshot current = snapshot.get();
+            if (current != null) {
+                return Mono.just(current.roster());
+            }
+            Mono<Roster> pending = coldLoad.get();
+            if (pending != null) {
+                return pending;
+            }
+            Mono<Roster> started = load(MAX_COLD_RELOADS).doFinally(signal -> coldLoad.set(null)).cache();
+            return coldLoad.compareAndSet(null, started) ? started : loadCold();
+        });
+    }
+
+    private Mono<Roster> load(int reloads) {
+        return Mono.defer(() -> {
+            long generation = writeGeneration.get();
+            return loader.get().flatMap(employees -> {
+                Roster installed = install(employees, generation, reloads == 0);
+                if (installed != null) {
+                    return Mono.just(installed);
+                }
+                logger.debug("Roster changed while loading into a cold cache, loading it again");
+                return load(reloads - 1);
+            });
+        });
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        logger.debug("Roster snapshot is stale, refreshing in background");
+        refreshes.incrementAndGet();
+        load(0).doFinally(signal -> refreshing.set(false))
+                .subscribe(
+                        roster -> logger.debug("Roster snapshot refreshed with {} employees", roster.size()),
+                        e -> {
+                            failedRefreshes.incrementAndGet();
+                            logger.warn("Roster refresh failed, serving last good snapshot: {}", e.getMessage());
+                        });
+    }
+
+    /**
+     * Installs a loaded roster unless a write happened while it was loading, in which case it may or may not reflect
+     * that write. Over a snapshot the snapshot is kept and marked stale; into a cold cache nothing is installed,
+     * unless {@code installStale} asks for the roster to be installed stale anyway.
+     *
+     * @return the roster now served, or {@code null} if the cache was left cold
+     */
+    private Roster install(List<Employee> employees, long generation, boolean installStale) {
+        Snapshot current = snapshot.get();
+        Instant loadedAt = clock.instant();
+        if (writeGeneration.get() != generation) {
+            if (current != null) {
+                snapshot.compareAndSet(current, new Snapshot(current.roster(), Instant.EPOCH));
+                return current.roster();
+            }
+            if (!installStale) {
+                return null;
+            }
+            loadedAt = Instant.EPOCH;
+        }
+        Roster roster = Roster.of(employees);
+        snapshot.set(new Snapshot(roster, loadedAt));
+        installListeners.forEach(listener -> listener.accept(roster));
+        return roster;
+    }
+
+    private record Snapshot(Roster roster, Instant loadedAt) {
+        boolean isStale(Instant now, Duration ttl) {
+            return !loadedAt.plus(ttl).isAfter(now);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.dto.Employee;
+
+/**
+ * One change to the roster, as sent by the upstream's change feed or made to the cached roster locally.
+ *
+ * @param employee the created or deleted employee, {@code null} for a heartbeat
+ * @param cursor position in the feed after this change, {@code null} for a heartbeat or a change made locally
+ */
+public record RosterChange(Type type, Employee employee, String cursor) {
+
+    public enum Type {
+        CREATED,
+        DELETED,
+        /** Sent while nothing changes, confirming the feed is still connected. */
+        HEARTBEAT
+    }
+
+    public static RosterChange heartbeat() {
+        return new RosterChange(Type.HEARTBEAT, null, null);
+    }
+
+    /**
+     * Applies the change idempotently, so replaying changes a roster already reflects leaves it as it is.
+     */
+    public void applyTo(Roster roster) {
+        switch (type) {
+            case CREATED -> roster.addIfAbsent(employee);
+            case DELETED -> roster.remove(employee);
+            case HEARTBEAT -> {
+                // Nothing changed.
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.dto.Employee;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Salary-ordered index over the roster, highest salary first.
+ * <p>
+ * Employees without a salary are kept in a separate bucket that always ranks below every known salary. Buckets are
+ * insertion-ordered sets, so removing an employee does not scan its bucket. Not thread-safe on its own;
+ * {@link Roster} guards it with its lock.
+ */
+class SalaryIndex {
+
+    private final NavigableMap<Integer, Set<Employee>> bySalary = new TreeMap<>(Comparator.reverseOrder());
+    private final Set<Employee> withoutSalary = new LinkedHashSet<>();
+    private Integer highestSalary;
+
+    SalaryIndex(Collection<Employee> employees) {
+        employees.forEach(this::add);
+    }
+
+    void add(Employee employee) {
+        Integer salary = employee.getSalary();
+        if (salary == null) {
+            withoutSalary.add(employee);
+            return;
+        }
+        bySalary.computeIfAbsent(salary, ignored -> new LinkedHashSet<>(2)).add(employee);
+        if (highestSalary == null || salary > highestSalary) {
+            highestSalary = salary;
+        }
+    }
+
+    void remove(Employee employee) {
+        Integer salary = employee.getSalary();
+        if (salary == null) {
+            withoutSalary.remove(employee);
+            return;
+        }
+        Set<Employee> bucket = bySalary.get(salary);
+        if (bucket == null || !bucket.remove(employee)) {
+            return;
+        }
+        if (bucket.isEmpty()) {
+            bySalary.remove(salary);
+            if (salary.equals(highestSalary)) {
+                highestSalary = bySalary.isEmpty() ? null : bySalary.firstKey();
+            }
+        }
+    }
+
+    Optional<Integer> highestSalary() {
+        return Optional.ofNullable(highestSalary);
+    }
+
+    /**
+     * Walks the buckets from the top and stops as soon as {@code limit} employees are collected, so the cost depends
+     * on the limit rather than on the roster size.
+     */
+    List<Employee> topEarners(int limit) {
+        List<Employee> top = new ArrayList<>(limit);
+        for (Set<Employee> bucket : bySalary.values()) {
+            for (Employee employee : bucket) {
+                if (top.size() == limit) {
+                    return top;
+                }
+                top.add(employee);
+            }
+        }
+        for (Employee employee : withoutSalary) {
+            if (top.size() == limit) {
+                return top;
+            }
+            top.add(employee);
+        }
+        return top;
+    }
+}
@@ -1,6 +1,8 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.dto.BulkCreateResult;
 import com.reliaquest.api.dto.Employee;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -17,5 +19,11 @@ public interface EmployeeService {
 
     Object createEmployee(Object employeeInput);
 
+    /**
+     * Not blocking: the results are handed to Spring MVC as a stream and written as each one completes, so a large
+     * batch does not hold a worker thread for its whole duration.
+     */
+    Flux<BulkCreateResult> createEmployees(List<Object> employeeInputs);
+
     Boolean deleteEmployee(Object deletedEmployee);
 }
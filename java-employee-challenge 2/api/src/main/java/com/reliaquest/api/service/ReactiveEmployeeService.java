@@ -0,0 +1,31 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.BulkCreateResult;
+import com.reliaquest.api.dto.Employee;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeService}; nothing in this contract may block the calling thread.
+ */
+public interface ReactiveEmployeeService {
+    Flux<Employee> getAllEmployees();
+
+    Flux<Employee> getEmployeesByNameSearch(String searchString);
+
+    Mono<Employee> getEmployeeById(String id);
+
+    Mono<Integer> getHighestSalary();
+
+    Flux<String> getTopTenHighestEarningEmployeeNames();
+
+    Mono<Object> createEmployee(Object employeeInput);
+
+    /**
+     * Creates every input with a bounded number of upstream calls in flight, emitting each result as it completes
+     * (not in input order). A failed input yields a failed result rather than terminating the stream.
+     */
+    Flux<BulkCreateResult> createEmployees(Flux<?> employeeInputs);
+
+    Mono<Boolean> deleteEmployee(Object deletedEmployee);
+}
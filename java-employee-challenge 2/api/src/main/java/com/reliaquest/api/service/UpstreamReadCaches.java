@@ -0,0 +1,20 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.client.EntityTagCache;
+import com.reliaquest.api.client.SingleFlight;
+import com.reliaquest.api.roster.RosterCache;
+
+import java.util.List;
+
+/**
+ * What an employee service keeps in front of the upstream to spare it reads: the cached roster, the coalesced reads
+ * and the conditional reads. Exposed for metrics, so they can be observed without depending on the implementation.
+ */
+public interface UpstreamReadCaches {
+
+    RosterCache getRosterCache();
+
+    List<SingleFlight<?, ?>> getSingleFlights();
+
+    List<EntityTagCache<?>> getEntityTagCaches();
+}
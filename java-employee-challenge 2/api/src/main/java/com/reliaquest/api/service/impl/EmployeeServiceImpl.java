@@ -1,130 +1,64 @@
 package com.reliaquest.api.service.impl;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.BulkCreateResult;
 import com.reliaquest.api.dto.Employee;
 import com.reliaquest.api.service.EmployeeService;
-import org.slf4j.Logger;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
+import com.reliaquest.api.service.ReactiveEmployeeService;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 
-import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
+/**
+ * Blocking facade over {@link ReactiveEmployeeService} for the servlet stack, where each request already owns a
+ * worker thread.
+ */
 @Service
 public class EmployeeServiceImpl implements EmployeeService {
 
-    private final WebClient webClient;
-    private final Logger logger = org.slf4j.LoggerFactory.getLogger(EmployeeServiceImpl.class);
+    private final ReactiveEmployeeService reactiveEmployeeService;
 
-    public EmployeeServiceImpl(WebClient webClient) {
-        this.webClient = webClient;
+    public EmployeeServiceImpl(ReactiveEmployeeService reactiveEmployeeService) {
+        this.reactiveEmployeeService = reactiveEmployeeService;
     }
 
     @Override
     public List<Employee> getAllEmployees() {
-        logger.debug("Fetching all employees");
-        try {
-            JsonNode data = webClient.get()
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block()
-                    .get("data");
-            ObjectMapper mapper = new ObjectMapper();
-            return Arrays.asList(mapper.treeToValue(data, Employee[].class));
-        } catch (Exception e) {
-            logger.error("Error fetching all employees: {}", e.getMessage());
-            throw new RuntimeException("Unable to fetch employees", e);
-        }
+        return reactiveEmployeeService.getAllEmployees().collectList().block();
     }
 
     @Override
     public List<Employee> getEmployeesByNameSearch(String searchString) {
-        logger.debug("getEmployeesByNameSearch method called with searchString: {}", searchString);
-        return getAllEmployees().stream()
-                .filter(emp -> emp.getName() != null && emp.getName().toLowerCase().contains(searchString.toLowerCase()))
-                .toList();
+        return reactiveEmployeeService.getEmployeesByNameSearch(searchString).collectList().block();
     }
 
     @Override
     public Employee getEmployeeById(String id) {
-        logger.debug("getEmployeeById method called with id: {}", id);
-        try {
-            JsonNode data = webClient.get()
-                    .uri("/{id}", id)
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block()
-                    .get("data");
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.treeToValue(data, Employee.class);
-        } catch (Exception e) {
-            logger.error("Error fetching employee by ID: {}", e.getMessage());
-            throw new RuntimeException("Unable to fetch employee by ID", e);
-        }
+        return reactiveEmployeeService.getEmployeeById(id).block();
     }
 
     @Override
     public Integer getHighestSalary() {
-        logger.debug("getHighestSalary method called");
-        return getAllEmployees().stream()
-                .map(Employee::getSalary)
-                .filter(Objects::nonNull)
-                .max(Integer::compareTo)
-                .orElse(0);
+        return reactiveEmployeeService.getHighestSalary().block();
     }
 
     @Override
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        logger.debug("getTopTenHighestEarningEmployeeNames method called");
-        return getAllEmployees().stream()
-                .sorted(Comparator.comparing(Employee::getSalary, Comparator.reverseOrder()))
-                .limit(10)
-                .map(Employee::getName)
-                .collect(Collectors.toList());
+        return reactiveEmployeeService.getTopTenHighestEarningEmployeeNames().collectList().block();
     }
 
     @Override
     public Object createEmployee(Object employeeInput) {
-        logger.debug("createEmployee method called with input: {}", employeeInput);
-        try {
-            JsonNode data = webClient.post()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(employeeInput)
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block()
-                    .get("data");
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.treeToValue(data, Employee.class);
-        } catch (Exception e) {
-            logger.error("Error creating employee: {}", e.getMessage());
-            throw new RuntimeException("Unable to create employee", e);
-        }
+        return reactiveEmployeeService.createEmployee(employeeInput).block();
+    }
+
+    @Override
+    public Flux<BulkCreateResult> createEmployees(List<Object> employeeInputs) {
+        return reactiveEmployeeService.createEmployees(Flux.fromIterable(employeeInputs));
     }
 
     @Override
     public Boolean deleteEmployee(Object deletedEmployee) {
-        logger.debug("deleteEmployee method called with input: {}", deletedEmployee);
-        try {
-            String employeeName = (String) deletedEmployee;
-            JsonNode data = webClient.delete()
-                    .uri("/{name}", employeeName)
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block()
-                    .get("data");
-            return data.asBoolean();
-        } catch (Exception e) {
-            logger.error("Error deleting employee: {}", e.getMessage());
-            //throw new RuntimeException("Unable to delete employee", e);
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unable to delete employee", e);
-        }
+        return reactiveEmployeeService.deleteEmployee(deletedEmployee).block();
     }
 }
@@ -0,0 +1,318 @@
+package com.reliaquest.api.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.reliaquest.api.client.EmployeeChangeFeed;
+import com.reliaquest.api.client.EmployeePage;
+import com.reliaquest.api.client.EmployeePayloadDecoder;
+import com.reliaquest.api.client.EntityTagCache;
+import com.reliaquest.api.client.HedgedRead;
+import com.reliaquest.api.client.RosterChangeSync;
+import com.reliaquest.api.client.RosterStats;
+import com.reliaquest.api.client.SingleFlight;
+import com.reliaquest.api.client.UpstreamCircuitBreaker;
+import com.reliaquest.api.client.UpstreamRateGovernor;
+import com.reliaquest.api.client.UpstreamRateLimitedException;
+import com.reliaquest.api.client.UpstreamTimeouts;
+import com.reliaquest.api.dto.BulkCreateResult;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.repository.RosterStore;
+import com.reliaquest.api.roster.Roster;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+import com.reliaquest.api.service.UpstreamReadCaches;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Service
+public class ReactiveEmployeeServiceImpl
+        implements ReactiveEmployeeService, UpstreamReadCaches, SmartInitializingSingleton {
+
+    private static final String ROSTER_KEY = "roster";
+    private static final int TOP_EARNERS = 10;
+    private static final int VALIDATED_ENTRIES = 1024;
+    private static final int MAX_BACKOFF_DOUBLINGS = 5;
+
+    private final WebClient webClient;
+    private final EmployeePayloadDecoder payloadDecoder;
+    private final UpstreamCircuitBreaker circuitBreaker;
+    private final UpstreamTimeouts timeouts;
+    private final HedgedRead lookupHedging;
+    private final int pageSize;
+    private final int bulkConcurrency;
+    private final Retry bulkRateLimitRetry;
+    private final RosterCache rosterCache;
+    private final RosterChangeSync rosterSync;
+    private final RosterStore rosterStore;
+    private final SingleFlight<String, List<Employee>> rosterFetches = new SingleFlight<>("roster");
+    private final SingleFlight<String, Employee> employeeFetches = new SingleFlight<>("employee");
+    private final SingleFlight<String, RosterStats> statsFetches = new SingleFlight<>("stats");
+    private final EntityTagCache<EmployeePage> rosterPages = new EntityTagCache<>("roster", VALIDATED_ENTRIES);
+    private final EntityTagCache<Employee> employees = new EntityTagCache<>("employee", VALIDATED_ENTRIES);
+    private final Logger logger = org.slf4j.LoggerFactory.getLogger(ReactiveEmployeeServiceImpl.class);
+
+    /**
+     * @param lookupHedging hedges lookups by id; without one, each lookup is sent once
+     * @param rosterStore persists the cached roster and preloads it on startup; without one, it is kept in memory
+     */
+    public ReactiveEmployeeServiceImpl(WebClient webClient, EmployeePayloadDecoder payloadDecoder,
+                                       EmployeeChangeFeed changeFeed, UpstreamCircuitBreaker circuitBreaker,
+                                       UpstreamTimeouts timeouts, ObjectProvider<HedgedRead> lookupHedging,
+                                       ObjectProvider<RosterStore> rosterStore,
+                                       @Value("${employee.roster.cache.ttl:30s}") Duration rosterTtl,
+                                       @Value("${employee.roster.sync.enabled:true}") boolean rosterSyncEnabled,
+                                       @Value("${employee.upstream.page-size:5000}") int pageSize,
+                                       @Value("${employee.bulk.concurrency:4}") int bulkConcurrency,
+                                       @Value("${employee.bulk.max-rate-limit-retries:20}") int bulkMaxRetries,
+                                       @Value("${employee.bulk.rate-limit-backoff:500ms}") Duration bulkBackoff) {
+        this.webClient = webClient;
+        this.payloadDecoder = payloadDecoder;
+        this.circuitBreaker = circuitBreaker;
+        this.timeouts = timeouts;
+        this.lookupHedging = lookupHedging.getIfAvailable();
+        this.pageSize = pageSize;
+        this.bulkConcurrency = bulkConcurrency;
+        this.bulkRateLimitRetry = rateLimitRetry(bulkMaxRetries, bulkBackoff);
+        this.rosterCache = new RosterCache(
+                () -> rosterFetches.execute(ROSTER_KEY, this::loadRoster), rosterTtl);
+        this.rosterSync = rosterSyncEnabled ? new RosterChangeSync(rosterCache, changeFeed) : null;
+        this.rosterStore = rosterStore.getIfAvailable();
+    }
+
+    /**
+     * Preloads the persisted roster once the context is set up, before the server takes requests, rather than
+     * reading the database while the context is still being built.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (rosterStore != null) {
+            rosterStore.attach(rosterCache);
+        }
+    }
+
+    @Override
+    public Flux<Employee> getAllEmployees() {
+        logger.debug("Fetching all employees");
+        return roster().flatMapIterable(Roster::employees);
+    }
+
+    private Mono<Roster> roster() {
+        return rosterCache.get()
+                .doOnError(e -> logger.error("Error fetching all employees: {}", e.getMessage()))
+                .onErrorMap(e -> new RuntimeException("Unable to fetch employees", e));
+    }
+
+    private Mono<List<Employee>> loadRoster() {
+        return rosterSync == null ? fetchAllEmployees() : rosterSync.load(this::fetchAllEmployees);
+    }
+
+    private Mono<List<Employee>> fetchAllEmployees() {
+        return streamAllEmployees().collectList();
+    }
+
+    /**
+     * Walks the upstream roster page by page. The next page is only requested once the previous one has been
+     * decoded, so at most one page is in flight and buffered however large the roster is.
+     */
+    public Flux<Employee> streamAllEmployees() {
+        return fetchPage(null)
+                .expand(page -> page.nextCursor() == null ? Mono.empty() : fetchPage(page.nextCursor()))
+                .concatMapIterable(EmployeePage::employees);
+    }
+
+    /**
+     * Pages are read conditionally: while the roster is unchanged the upstream answers 304 and the page decoded last
+     * time is reused.
+     */
+    private Mono<EmployeePage> fetchPage(String cursor) {
+        return circuitBreaker.protect(rosterPages.get(pageSize + "/" + cursor, () -> webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .queryParam("limit", pageSize)
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .build()), payloadDecoder::decodePage), timeouts.read());
+    }
+
+    @Override
+    public Flux<Employee> getEmployeesByNameSearch(String searchString) {
+        logger.debug("getEmployeesByNameSearch method called with searchString: {}", searchString);
+        return roster().flatMapIterable(roster -> roster.searchByName(searchString));
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeById(String id) {
+        logger.debug("getEmployeeById method called with id: {}", id);
+        return employeeFetches.execute(id, () -> fetchEmployeeById(id))
+                .doOnError(e -> logger.error("Error fetching employee by ID: {}", e.getMessage()))
+                .onErrorMap(e -> new RuntimeException("Unable to fetch employee by ID", e));
+    }
+
+    /**
+     * Each attempt is bounded by the lookup timeout and counted by the circuit breaker; a lookup slower than usual is
+     * hedged with a second attempt when hedging is enabled.
+     */
+    private Mono<Employee> fetchEmployeeById(String id) {
+        Supplier<Mono<Employee>> attempt = () -> circuitBreaker.protect(
+                employees.get(id, () -> webClient.get().uri("/{id}", id), payloadDecoder::decodeOne),
+                timeouts.lookup());
+        return lookupHedging == null ? attempt.get() : lookupHedging.execute(attempt);
+    }
+
+    @Override
+    public RosterCache getRosterCache() {
+        return rosterCache;
+    }
+
+    @Override
+    public List<SingleFlight<?, ?>> getSingleFlights() {
+        return List.of(rosterFetches, employeeFetches, statsFetches);
+    }
+
+    @Override
+    public List<EntityTagCache<?>> getEntityTagCaches() {
+        return List.of(rosterPages, employees);
+    }
+
+    @Override
+    public Mono<Integer> getHighestSalary() {
+        logger.debug("getHighestSalary method called");
+        return salaryStats(roster -> new RosterStats(roster.highestSalary().orElse(0), List.of()))
+                .map(RosterStats::highestSalary);
+    }
+
+    @Override
+    public Flux<String> getTopTenHighestEarningEmployeeNames() {
+        logger.debug("getTopTenHighestEarningEmployeeNames method called");
+        return salaryStats(roster -> new RosterStats(0, roster.topEarners(TOP_EARNERS).stream()
+                        .map(Employee::getName)
+                        .toList()))
+                .flatMapIterable(RosterStats::topEarnerNames);
+    }
+
+    /**
+     * Salary answers come from the cached roster once it is loaded. Until then the upstream's statistics endpoint
+     * answers them in a few hundred bytes, instead of the whole roster being pulled in for one number; should that
+     * fail, the roster is loaded after all.
+     */
+    private Mono<RosterStats> salaryStats(Function<Roster, RosterStats> fromRoster) {
+        if (rosterCache.isLoaded()) {
+            return roster().map(fromRoster);
+        }
+        return statsFetches.execute(ROSTER_KEY, this::fetchRosterStats)
+                .onErrorResume(e -> {
+                    logger.warn("Roster statistics unavailable, loading the roster instead: {}", e.getMessage());
+                    return roster().map(fromRoster);
+                });
+    }
+
+    private Mono<RosterStats> fetchRosterStats() {
+        return circuitBreaker.protect(webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/stats").queryParam("top", TOP_EARNERS).build())
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(body -> {
+                    JsonNode stats = body.path("data");
+                    List<String> names = new ArrayList<>();
+                    stats.path("topEarners").forEach(employee -> names.add(employee.path("employee_name").asText()));
+                    return new RosterStats(stats.path("maxSalary").asInt(0), List.copyOf(names));
+                }), timeouts.read());
+    }
+
+    @Override
+    public Mono<Object> createEmployee(Object employeeInput) {
+        logger.debug("createEmployee method called with input: {}", employeeInput);
+        return postEmployee(employeeInput)
+                .cast(Object.class)
+                .doOnError(e -> logger.error("Error creating employee: {}", e.getMessage()))
+                .onErrorMap(e -> new RuntimeException("Unable to create employee", e));
+    }
+
+    /**
+     * Every input is still one upstream POST, but at most {@code employee.bulk.concurrency} are in flight and all of
+     * them pass the {@link com.reliaquest.api.client.UpstreamRateGovernor}, which queues them within the learned
+     * request budget. Inputs the governor turns away are retried once it expects the budget back, so a large batch
+     * takes as long as the upstream's capacity dictates instead of failing or going one round-trip at a time.
+     */
+    @Override
+    public Flux<BulkCreateResult> createEmployees(Flux<?> employeeInputs) {
+        return employeeInputs.index()
+                .flatMap(input -> postEmployee(input.getT2())
+                        .retryWhen(bulkRateLimitRetry)
+                        .map(createdEmployee -> BulkCreateResult.created(input.getT1(), createdEmployee))
+                        .switchIfEmpty(Mono.fromSupplier(
+                                () -> BulkCreateResult.failed(input.getT1(), "Upstream returned no employee")))
+                        .onErrorResume(e -> {
+                            logger.warn("Error creating employee {} of bulk request: {}", input.getT1(), e.getMessage());
+                            return Mono.just(BulkCreateResult.failed(input.getT1(), e.getMessage()));
+                        }), bulkConcurrency);
+    }
+
+    private Mono<Employee> postEmployee(Object employeeInput) {
+        return circuitBreaker.protect(webClient.post()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(employeeInput)
+                        .retrieve()
+                        .bodyToFlux(DataBuffer.class)
+                        .as(payloadDecoder::decodeOne), timeouts.write())
+                .doOnNext(createdEmployee -> rosterCache.update(roster -> roster.addIfAbsent(createdEmployee)));
+    }
+
+    /**
+     * Retries calls the governor rejected after the wait it asked for, and calls the upstream throttled after its
+     * {@code Retry-After}, or without one after {@code backoff}, doubled for every further 429 in a row up to
+     * {@link #MAX_BACKOFF_DOUBLINGS} times. Other failures are final.
+     */
+    private static Retry rateLimitRetry(int maxRetries, Duration backoff) {
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable failure = signal.failure();
+            if (signal.totalRetriesInARow() >= maxRetries) {
+                return Mono.error(failure);
+            }
+            if (failure instanceof UpstreamRateLimitedException rateLimited) {
+                return Mono.delay(rateLimited.getRetryAfter());
+            }
+            if (failure instanceof WebClientResponseException.TooManyRequests tooManyRequests) {
+                Duration retryAfter = UpstreamRateGovernor.retryAfter(tooManyRequests.getHeaders());
+                return Mono.delay(retryAfter != null
+                        ? retryAfter
+                        : backoff.multipliedBy(1L << Math.min(signal.totalRetriesInARow(), MAX_BACKOFF_DOUBLINGS)));
+            }
+            return Mono.error(failure);
+        }));
+    }
+
+    @Override
+    public Mono<Boolean> deleteEmployee(Object deletedEmployee) {
+        logger.debug("deleteEmployee method called with input: {}", deletedEmployee);
+        return Mono.fromCallable(() -> (String) deletedEmployee)
+                .flatMap(employeeName -> circuitBreaker.protect(webClient.delete()
+                                .uri("/{name}", employeeName)
+                                .retrieve()
+                                .bodyToMono(JsonNode.class)
+                                .map(body -> body.get("data").asBoolean()), timeouts.write())
+                        .doOnNext(deleted -> {
+                            if (deleted) {
+                                rosterCache.update(roster -> roster.removeByName(employeeName));
+                            }
+                        }))
+                .doOnError(e -> logger.error("Error deleting employee: {}", e.getMessage()))
+                .onErrorMap(e -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unable to delete employee", e));
+    }
+}
@@ -0,0 +1,159 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.reliaquest.api.dto.Employee;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeePayloadDecoderTest {
+
+    private static final String ROSTER = """
+            {"data":[
+              {"id":"4a3a170b-22cd-4ac2-aad1-9bb5b34a1507","employee_name":"Tiger Nixon","employee_salary":320800,
+               "employee_age":61,"employee_title":"Vice Chair","employee_email":"tnixon@company.com"},
+              {"id":7,"employee_name":"Bill Bob","employee_salary":null,"employee_age":24,
+               "employee_title":"Documentation Engineer","employee_email":"billBob@company.com","extra":{"name":"x"}}
+            ],"status":"Successfully processed request."}""";
+
+    private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build());
+
+    private final EmployeePayloadDecoder decoder = new EmployeePayloadDecoder(new ObjectMapper(), SMILE_MAPPER);
+
+    @Test
+    void decodesPrefixedRosterRegardlessOfChunkBoundaries() {
+        for (int chunkSize : new int[] {1, 7, 64, ROSTER.length()}) {
+            List<Employee> employees = decoder.decode(chunks(ROSTER, chunkSize)).collectList().block();
+
+            assertEquals(2, employees.size());
+            Employee first = employees.get(0);
+            assertNull(first.getId());
+            assertEquals("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", first.getUpstreamId());
+            assertEquals("Tiger Nixon", first.getName());
+            assertEquals(320800, first.getSalary());
+            assertEquals(61, first.getAge());
+            assertEquals("Vice Chair", first.getTitle());
+            assertEquals("tnixon@company.com", first.getEmail());
+            Employee second = employees.get(1);
+            assertEquals(7, second.getId());
+            assertEquals("7", second.getUpstreamId());
+            assertEquals("Bill Bob", second.getName());
+            assertNull(second.getSalary());
+        }
+    }
+
+    @Test
+    void decodesSingleEmployeeEnvelope() {
+        String body = "{\"data\":{\"id\":3,\"employee_name\":\"Jill Jenkins\",\"employee_salary\":139082},\"status\":\"ok\"}";
+
+        Employee employee = decoder.decodeOne(chunks(body, 5)).block();
+
+        assertEquals(3, employee.getId());
+        assertEquals("Jill Jenkins", employee.getName());
+        assertEquals(139082, employee.getSalary());
+    }
+
+    @Test
+    void decodesBareEmployee() {
+        Employee employee = decoder.decodeEmployee(
+                "{\"id\":\"4a3a170b-22cd-4ac2-aad1-9bb5b34a1507\",\"employee_name\":\"Tiger Nixon\",\"employee_age\":61}")
+                .block();
+
+        assertEquals("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", employee.getUpstreamId());
+        assertEquals("Tiger Nixon", employee.getName());
+        assertEquals(61, employee.getAge());
+    }
+
+    @Test
+    void emptyDataDecodesToNothing() {
+        assertNull(decoder.decodeOne(chunks("{\"status\":\"ok\"}", 4)).block());
+        assertTrue(decoder.decode(chunks("{\"data\":[]}", 4)).collectList().block().isEmpty());
+    }
+
+    @Test
+    void decodesPageWithNextCursor() {
+        String body = ROSTER.replace("\"status\"", "\"nextCursor\":\"AAAAAAAAAAE\",\"status\"");
+
+        EmployeePage page = decoder.decodePage(chunks(body, 9)).block();
+
+        assertEquals(2, page.employees().size());
+        assertEquals("AAAAAAAAAAE", page.nextCursor());
+        assertNull(decoder.decodePage(chunks(ROSTER, 9)).block().nextCursor());
+    }
+
+    @Test
+    void decodesSmileRosterWithSharedNamesAndBinaryIds() throws Exception {
+        Map<String, Object> envelope = new LinkedHashMap<>();
+        envelope.put("data", List.of(
+                smileEmployee(UUID.fromString("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507"), "Tiger Nixon", 320800),
+                smileEmployee(UUID.randomUUID(), "Bill Bob", 89750)));
+        envelope.put("nextCursor", "AAAAAAAAAAE");
+        byte[] body = SMILE_MAPPER.writeValueAsBytes(envelope);
+
+        for (int chunkSize : new int[] {1, 7, body.length}) {
+            EmployeePage page = decoder.decodePage(chunks(body, chunkSize)).block();
+
+            assertEquals(List.of("Tiger Nixon", "Bill Bob"), page.employees().stream().map(Employee::getName).toList());
+            assertNull(page.employees().get(0).getId());
+            assertEquals("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", page.employees().get(0).getUpstreamId());
+            assertEquals(89750, page.employees().get(1).getSalary());
+            assertEquals("Vice Chair", page.employees().get(1).getTitle());
+            assertEquals("AAAAAAAAAAE", page.nextCursor());
+        }
+    }
+
+    @Test
+    void numberOutOfIntRangeFailsWithTheField() {
+        String body = "{\"data\":[{\"id\":12345678901,\"employee_name\":\"Tiger Nixon\",\"employee_age\":61},"
+                + "{\"employee_name\":\"Bill Bob\",\"employee_salary\":3000000000}]}";
+
+        DecodingException failure = assertThrows(DecodingException.class,
+                () -> decoder.decode(chunks(body, 16)).collectList().block());
+
+        assertEquals("Employee employee_salary out of int range: 3000000000", failure.getMessage());
+    }
+
+    @Test
+    void truncatedPayloadFails() {
+        assertThrows(DecodingException.class, () -> decoder.decode(chunks(ROSTER.substring(0, 100), 16)).blockLast());
+    }
+
+    private static Map<String, Object> smileEmployee(UUID id, String name, int salary) {
+        Map<String, Object> employee = new LinkedHashMap<>();
+        employee.put("id", id);
+        employee.put("employee_name", name);
+        employee.put("employee_salary", salary);
+        employee.put("employee_title", "Vice Chair");
+        return employee;
+    }
+
+    private static Flux<DataBuffer> chunks(String body, int chunkSize) {
+        return chunks(body.getBytes(StandardCharsets.UTF_8), chunkSize);
+    }
+
+    private static Flux<DataBuffer> chunks(byte[] bytes, int chunkSize) {
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            int length = Math.min(chunkSize, bytes.length - offset);
+            DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.allocateBuffer(length);
+            buffer.write(bytes, offset, length);
+            buffers.add(buffer);
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
@@ -0,0 +1,89 @@
+package com.reliaquest.api.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityTagCacheTest {
+
+    private final AtomicReference<String> version = new AtomicReference<>("\"v1\"");
+    private final List<String> sentValidators = new ArrayList<>();
+    private final AtomicInteger decodes = new AtomicInteger();
+    private final WebClient webClient = WebClient.builder()
+            .exchangeFunction(request -> {
+                String validator = request.headers().getFirst(HttpHeaders.IF_NONE_MATCH);
+                sentValidators.add(validator);
+                if (request.url().getPath().equals("/missing")) {
+                    return Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build());
+                }
+                if (version.get().equals(validator)) {
+                    return Mono.just(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+                }
+                return Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.ETAG, version.get())
+                        .body("roster " + version.get())
+                        .build());
+            })
+            .build();
+
+    @Test
+    void reusesDecodedValueWhileUpstreamAnswersNotModified() {
+        EntityTagCache<String> cache = new EntityTagCache<>("roster", 10);
+
+        assertEquals("roster \"v1\"", read(cache, "/roster"));
+        assertEquals("roster \"v1\"", read(cache, "/roster"));
+        version.set("\"v2\"");
+        assertEquals("roster \"v2\"", read(cache, "/roster"));
+
+        assertEquals(List.of("", "\"v1\"", "\"v1\""), sentValidators.stream().map(v -> v == null ? "" : v).toList());
+        assertEquals(2, decodes.get());
+        assertEquals(1, cache.getNotModified());
+        assertEquals(2, cache.getModified());
+    }
+
+    @Test
+    void leastRecentlyUsedKeyIsDropped() {
+        EntityTagCache<String> cache = new EntityTagCache<>("employee", 1);
+
+        read(cache, "/a");
+        read(cache, "/b");
+        read(cache, "/a");
+
+        assertNull(sentValidators.get(2));
+    }
+
+    @Test
+    void errorStatusFailsLikeRetrieve() {
+        EntityTagCache<String> cache = new EntityTagCache<>("employee", 10);
+
+        assertThrows(WebClientResponseException.NotFound.class, () -> read(cache, "/missing"));
+    }
+
+    private String read(EntityTagCache<String> cache, String path) {
+        return cache.get(path, () -> webClient.get().uri(path), this::decode).block();
+    }
+
+    private Mono<String> decode(Flux<DataBuffer> body) {
+        return DataBufferUtils.join(body).map(buffer -> {
+            decodes.incrementAndGet();
+            String text = buffer.toString(StandardCharsets.UTF_8);
+            DataBufferUtils.release(buffer);
+            return text;
+        });
+    }
+}
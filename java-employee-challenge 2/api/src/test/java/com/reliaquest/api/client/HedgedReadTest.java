@@ -0,0 +1,85 @@
+package com.reliaquest.api.client;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgedReadTest {
+
+    @Test
+    void delayIsThePercentileOfRecordedLatenciesButNotBelowMinDelay() {
+        HedgedRead hedgedRead = new HedgedRead("employee", 0.9, Duration.ofMillis(5), 10, 100);
+        for (int i = 1; i <= 9; i++) {
+            hedgedRead.record(Duration.ofMillis(i).toNanos());
+        }
+        assertNull(hedgedRead.delay());
+
+        hedgedRead.record(Duration.ofMillis(10).toNanos());
+        assertEquals(Duration.ofMillis(9), hedgedRead.delay());
+
+        HedgedRead fast = new HedgedRead("employee", 0.9, Duration.ofMillis(5), 1, 10);
+        fast.record(Duration.ofMillis(1).toNanos());
+        assertEquals(Duration.ofMillis(5), fast.delay());
+    }
+
+    @Test
+    void slowReadIsHedgedAndTheFasterReplyWins() {
+        HedgedRead hedgedRead = warmedUp();
+        AtomicInteger attempts = new AtomicInteger();
+
+        String reply = hedgedRead.execute(() -> attempts.incrementAndGet() == 1
+                ? Mono.<String>never()
+                : Mono.just("hedge")).block(Duration.ofSeconds(5));
+
+        assertEquals("hedge", reply);
+        assertEquals(2, attempts.get());
+        assertEquals(1, hedgedRead.getHedges());
+        assertEquals(1, hedgedRead.getHedgeWins());
+    }
+
+    @Test
+    void fastReadIsNotHedged() {
+        HedgedRead hedgedRead = warmedUp();
+        AtomicInteger attempts = new AtomicInteger();
+
+        String reply = hedgedRead.execute(() -> {
+            attempts.incrementAndGet();
+            return Mono.just("first");
+        }).block();
+
+        assertEquals("first", reply);
+        assertEquals(1, attempts.get());
+        assertEquals(0, hedgedRead.getHedges());
+    }
+
+    @Test
+    void failedHedgeLeavesTheAnswerToTheFirstRead() {
+        HedgedRead hedgedRead = warmedUp();
+        AtomicInteger attempts = new AtomicInteger();
+
+        String reply = hedgedRead.execute(() -> attempts.incrementAndGet() == 1
+                ? Mono.just("first").delayElement(Duration.ofMillis(100))
+                : Mono.<String>error(new UpstreamRateLimitedException(Duration.ofSeconds(1)))).block();
+
+        assertEquals("first", reply);
+        assertEquals(1, hedgedRead.getHedges());
+        assertEquals(0, hedgedRead.getHedgeWins());
+    }
+
+    @Test
+    void emptyReplyIsAnAnswer() {
+        HedgedRead hedgedRead = warmedUp();
+
+        assertNull(hedgedRead.execute(Mono::<String>empty).block(Duration.ofSeconds(5)));
+    }
+
+    private static HedgedRead warmedUp() {
+        HedgedRead hedgedRead = new HedgedRead("employee", 0.95, Duration.ofMillis(1), 1, 16);
+        hedgedRead.record(Duration.ofMillis(10).toNanos());
+        return hedgedRead;
+    }
+}
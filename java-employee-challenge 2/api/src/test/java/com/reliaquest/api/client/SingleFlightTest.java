@@ -0,0 +1,89 @@
+package com.reliaquest.api.client;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>("test");
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void concurrentCallersShareOnePendingCall() {
+        Sinks.One<String> upstream = Sinks.one();
+        List<String> results = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            singleFlight.execute("roster", () -> call(upstream.asMono())).subscribe(results::add);
+        }
+        upstream.tryEmitValue("roster-body");
+
+        assertEquals(List.of("roster-body", "roster-body", "roster-body"), results);
+        assertEquals(1, calls.get());
+        assertEquals(1, singleFlight.getFlights());
+        assertEquals(3, singleFlight.getCallers());
+        assertEquals(3, singleFlight.getMaxCallersPerFlight());
+        assertEquals(0, singleFlight.getInFlight());
+    }
+
+    @Test
+    void completedFlightIsNotReused() {
+        assertEquals("first", singleFlight.execute("roster", () -> call(Mono.just("first"))).block());
+        assertEquals("second", singleFlight.execute("roster", () -> call(Mono.just("second"))).block());
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void differentKeysDoNotShareFlights() {
+        Sinks.One<String> first = Sinks.one();
+        Sinks.One<String> second = Sinks.one();
+
+        singleFlight.execute("1", () -> call(first.asMono())).subscribe();
+        singleFlight.execute("2", () -> call(second.asMono())).subscribe();
+
+        assertEquals(2, singleFlight.getInFlight());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void errorsAreSharedAndClearTheFlight() {
+        Sinks.One<String> upstream = Sinks.one();
+        List<Throwable> errors = new ArrayList<>();
+
+        for (int i = 0; i < 2; i++) {
+            singleFlight.execute("roster", () -> call(upstream.asMono())).subscribe(ignored -> {}, errors::add);
+        }
+        upstream.tryEmitError(new IllegalStateException("429 Too Many Requests"));
+
+        assertEquals(2, errors.size());
+        assertEquals(0, singleFlight.getInFlight());
+    }
+
+    @Test
+    void callerWokenByAFinishedFlightStartsANewOne() {
+        for (int i = 0; i < 50; i++) {
+            Mono<String> failing = Mono.delay(Duration.ofMillis(1)).then(Mono.error(new TimeoutException()));
+            assertThrows(RuntimeException.class, () -> singleFlight.execute("roster", () -> call(failing)).block());
+        }
+
+        assertEquals(50, calls.get());
+        assertEquals(50, singleFlight.getFlights());
+    }
+
+    private Mono<String> call(Mono<String> response) {
+        return Mono.defer(() -> {
+            calls.incrementAndGet();
+            return response;
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.reliaquest.api.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final UpstreamCircuitBreaker breaker =
+            new UpstreamCircuitBreaker(3, Duration.ofSeconds(10), now::get);
+
+    @Test
+    void opensAfterConsecutiveFailuresAndProbesOnceOpenDurationPassed() {
+        for (int i = 0; i < 3; i++) {
+            assertThrows(WebClientResponseException.class, () -> call(serverError()));
+        }
+
+        UpstreamUnavailableException rejected = assertThrows(UpstreamUnavailableException.class, () -> call(ok()));
+        assertEquals(Duration.ofSeconds(10), rejected.getRetryAfter());
+        assertEquals(1, breaker.getOpened());
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThrows(WebClientResponseException.class, () -> call(serverError()));
+        assertThrows(UpstreamUnavailableException.class, () -> call(ok()));
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertEquals("ok", call(ok()));
+        assertFalse(breaker.isOpen());
+        assertEquals(2, breaker.getOpened());
+    }
+
+    @Test
+    void clientErrorsAndSuccessesDoNotCountTowardsOpening() {
+        call(serverError().onErrorResume(e -> Mono.empty()));
+        assertThrows(WebClientResponseException.class, () -> call(serverError()));
+        assertThrows(WebClientResponseException.class,
+                () -> call(Mono.error(WebClientResponseException.create(404, "Not Found", null, null, null))));
+        assertThrows(WebClientResponseException.class, () -> call(serverError()));
+        call(ok());
+        assertThrows(WebClientResponseException.class, () -> call(serverError()));
+        assertThrows(WebClientResponseException.class, () -> call(serverError()));
+
+        assertFalse(breaker.isOpen());
+    }
+
+    @Test
+    void timeoutCountsAsFailure() {
+        for (int i = 0; i < 3; i++) {
+            Exception failure = assertThrows(RuntimeException.class,
+                    () -> breaker.protect(Mono.never(), Duration.ofMillis(10)).block());
+            assertInstanceOf(TimeoutException.class, failure.getCause());
+        }
+
+        assertTrue(breaker.isOpen());
+        assertEquals(3, breaker.getTimedOut());
+    }
+
+    @Test
+    void cancelledProbeHandsTheProbeBack() {
+        for (int i = 0; i < 3; i++) {
+            assertThrows(WebClientResponseException.class, () -> call(serverError()));
+        }
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        breaker.protect(Mono.never(), Duration.ZERO).subscribe().dispose();
+
+        assertEquals("ok", call(ok()));
+        assertFalse(breaker.isOpen());
+    }
+
+    private String call(Mono<String> upstream) {
+        return breaker.protect(upstream, Duration.ZERO).block();
+    }
+
+    private static Mono<String> ok() {
+        return Mono.just("ok");
+    }
+
+    private static Mono<String> serverError() {
+        return Mono.error(WebClientResponseException.create(
+                HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable", null, null, null));
+    }
+}
@@ -0,0 +1,73 @@
+package com.reliaquest.api.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamRateGovernorTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void spendsInitialBudgetThenQueuesWithinMaxWait() {
+        UpstreamRateGovernor governor = governor(2, Duration.ofSeconds(2), Duration.ofSeconds(1));
+
+        assertEquals(Duration.ZERO, governor.reserve());
+        assertEquals(Duration.ZERO, governor.reserve());
+        assertEquals(Duration.ofSeconds(1), governor.reserve());
+        assertThrows(UpstreamRateLimitedException.class, governor::reserve);
+    }
+
+    @Test
+    void throttlingBlocksForRetryAfterAndLearnsBudget() {
+        UpstreamRateGovernor governor = governor(10, Duration.ofSeconds(30), Duration.ZERO);
+        for (int i = 0; i < 3; i++) {
+            governor.reserve();
+            governor.onSuccess();
+        }
+
+        governor.onThrottled(Duration.ofSeconds(45));
+
+        UpstreamRateLimitedException exception = assertThrows(UpstreamRateLimitedException.class, governor::reserve);
+        assertEquals(Duration.ofSeconds(45), exception.getRetryAfter());
+
+        advance(Duration.ofSeconds(45));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Duration.ZERO, governor.reserve());
+        }
+        assertThrows(UpstreamRateLimitedException.class, governor::reserve);
+    }
+
+    @Test
+    void backoffGrowsWhileThrottlingPersists() {
+        UpstreamRateGovernor governor = governor(5, Duration.ofSeconds(10), Duration.ZERO);
+
+        governor.onThrottled(null);
+        advance(Duration.ofSeconds(10));
+        governor.reserve();
+        governor.onThrottled(null);
+
+        assertEquals(Duration.ofSeconds(15), governor.remainingBlock());
+    }
+
+    @Test
+    void parsesRetryAfterSeconds() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "42");
+
+        assertEquals(Duration.ofSeconds(42), UpstreamRateGovernor.retryAfter(headers));
+        assertNull(UpstreamRateGovernor.retryAfter(new HttpHeaders()));
+    }
+
+    private UpstreamRateGovernor governor(int capacity, Duration window, Duration maxWait) {
+        return new UpstreamRateGovernor(capacity, window, maxWait, Duration.ofMinutes(2), now::get);
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+}
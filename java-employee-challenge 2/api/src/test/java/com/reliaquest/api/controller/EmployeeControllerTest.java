@@ -1,5 +1,6 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.client.UpstreamUnavailableException;
 import com.reliaquest.api.dto.Employee;
 import com.reliaquest.api.service.EmployeeService;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -67,6 +69,16 @@ class EmployeeControllerTest {
         assertEquals("Unable to fetch employee by id", exception.getReason());
     }
 
+    @Test
+    void getEmployeeByIdReportsOpenUpstreamCircuitAsServiceUnavailable() {
+        Mockito.when(employeeService.getEmployeeById("1")).thenThrow(new RuntimeException(
+                "Unable to fetch employee by ID", new UpstreamUnavailableException(Duration.ofSeconds(5))));
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> employeeController.getEmployeeById("1"));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+    }
+
     @Test
     void createEmployeeReturnsCreatedEmployee() {
         Object input = new Employee(2, "Luke Shaw", 2000, 30, "SDE", "luke@gmail.com");
@@ -0,0 +1,79 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveEmployeeControllerTest {
+    @Mock
+    private ReactiveEmployeeService employeeService;
+
+    @InjectMocks
+    private ReactiveEmployeeController employeeController;
+
+    @Test
+    void getAllEmployeesReturnsListOfEmployees() {
+        Employee employee = new Employee(1, "John Doe", 5000, 25, "SDE", "john@gmail.com");
+        Mockito.when(employeeService.getAllEmployees()).thenReturn(Flux.just(employee));
+
+        ResponseEntity<List<Employee>> response = employeeController.getAllEmployees().block();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(employee), response.getBody());
+    }
+
+    @Test
+    void getAllEmployeesThrowsInternalServerErrorOnException() {
+        Mockito.when(employeeService.getAllEmployees()).thenReturn(Flux.error(new RuntimeException("Database error")));
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> employeeController.getAllEmployees().block());
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exception.getStatusCode());
+        assertEquals("Unable to fetch employees list", exception.getReason());
+    }
+
+    @Test
+    void getTopTenHighestEarningEmployeeNamesReturnsNames() {
+        Mockito.when(employeeService.getTopTenHighestEarningEmployeeNames()).thenReturn(Flux.just("John Doe", "Luke Shaw"));
+
+        ResponseEntity<List<String>> response = employeeController.getTopTenHighestEarningEmployeeNames().block();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of("John Doe", "Luke Shaw"), response.getBody());
+    }
+
+    @Test
+    void deleteEmployeeByIdThrowsNotFoundWhenEmployeeDoesNotExist() {
+        Mockito.when(employeeService.deleteEmployee("1")).thenReturn(Mono.just(false));
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> employeeController.deleteEmployeeById("1").block());
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+        assertEquals("Employee not found", exception.getReason());
+    }
+
+    @Test
+    void deleteEmployeeByIdThrowsInternalServerErrorOnException() {
+        Mockito.when(employeeService.deleteEmployee("1")).thenReturn(Mono.error(new RuntimeException("Database error")));
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> employeeController.deleteEmployeeById("1").block());
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exception.getStatusCode());
+        assertEquals("Unable to delete employee by id", exception.getReason());
+    }
+}
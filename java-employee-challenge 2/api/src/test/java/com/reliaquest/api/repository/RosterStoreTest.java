@@ -0,0 +1,171 @@
+package com.reliaquest.api.repository;
+
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.roster.RosterCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterStoreTest {
+
+    private final Map<Long, EmployeeEntity> table = new TreeMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicBoolean failNextSave = new AtomicBoolean();
+    private final EmployeeRepository repository = Mockito.mock(EmployeeRepository.class);
+
+    @BeforeEach
+    void backRepositoryWithTable() {
+        Mockito.when(repository.findAll(Mockito.any(Sort.class))).thenAnswer(invocation -> new ArrayList<>(table.values()));
+        Mockito.when(repository.saveAll(Mockito.<EmployeeEntity>anyList())).thenAnswer(invocation -> {
+            if (failNextSave.getAndSet(false)) {
+                throw new IllegalStateException("Disk full");
+            }
+            List<EmployeeEntity> entities = invocation.getArgument(0);
+            entities.forEach(entity -> {
+                entity.setRowId(sequence.incrementAndGet());
+                table.put(entity.getRowId(), entity);
+            });
+            return entities;
+        });
+        Mockito.doAnswer(invocation -> {
+            List<Long> rowIds = invocation.getArgument(0);
+            rowIds.forEach(table::remove);
+            return null;
+        }).when(repository).deleteAllByIdInBatch(Mockito.<Long>anyList());
+    }
+
+    @Test
+    void persistedRosterIsServedWithoutWaitingOnUpstreamAndChangesAreWrittenBack() {
+        persist(employee("John Doe", 5000), employee("Luke Shaw", 2000));
+        RosterCache cache = new RosterCache(Mono::never, Duration.ofSeconds(30));
+        RosterStore store = store(500);
+
+        store.attach(cache);
+
+        assertEquals(List.of("John Doe", "Luke Shaw"), names(cache.get().block(Duration.ofSeconds(1)).employees()));
+
+        cache.update(roster -> roster.removeByName("john doe"));
+        store.flush();
+
+        assertEquals(List.of("Luke Shaw"), persistedNames());
+    }
+
+    @Test
+    void installedRosterAndLaterChangesAreWrittenBackInBatches() {
+        RosterCache cache = new RosterCache(() -> Mono.just(List.of(
+                employee("John Doe", 5000), employee("Luke Shaw", 2000), employee("Jane Roe", 7000))),
+                Duration.ofSeconds(30));
+        RosterStore store = store(2);
+        store.attach(cache);
+        cache.get().block();
+
+        cache.update(roster -> roster.add(employee("Bill Bob", 9000)));
+        cache.update(roster -> roster.removeByName("John Doe"));
+
+        assertEquals(3, store.getPending());
+        assertEquals(3, store.flush());
+        assertEquals(List.of("Luke Shaw", "Jane Roe", "Bill Bob"), persistedNames());
+        assertEquals(0, store.getPending());
+        Mockito.verify(repository, Mockito.times(2)).saveAll(Mockito.<EmployeeEntity>anyList());
+    }
+
+    @Test
+    void employeeAddedAndRemovedBeforeFlushIsNeverWritten() {
+        RosterCache cache = new RosterCache(() -> Mono.just(List.of(employee("John Doe", 5000))), Duration.ofSeconds(30));
+        RosterStore store = store(500);
+        store.attach(cache);
+        cache.get().block();
+        store.flush();
+        long rowsWritten = store.getRowsWritten();
+
+        cache.update(roster -> roster.add(employee("Bill Bob", 9000)));
+        cache.update(roster -> roster.removeByName("Bill Bob"));
+        store.flush();
+
+        assertEquals(rowsWritten, store.getRowsWritten());
+        assertEquals(List.of("John Doe"), persistedNames());
+    }
+
+    @Test
+    void refreshedRosterOnlyWritesTheDifference() {
+        persist(employee("John Doe", 5000), employee("Luke Shaw", 2000), employee("Bill Bob", 9000));
+        RosterCache cache = new RosterCache(() -> Mono.just(List.of(
+                employee("John Doe", 5000), employee("Luke Shaw", 2000), employee("Jane Roe", 7000))),
+                Duration.ofSeconds(30));
+        RosterStore store = store(500);
+        store.attach(cache);
+
+        cache.get().block();
+        store.flush();
+
+        assertEquals(List.of("John Doe", "Luke Shaw", "Jane Roe"), persistedNames());
+        assertEquals(2, store.getRowsWritten());
+
+        cache.expire();
+        cache.get().block();
+        store.flush();
+
+        assertEquals(2, store.getRowsWritten());
+        Mockito.verify(repository, Mockito.never()).deleteAllInBatch();
+    }
+
+    @Test
+    void failedFlushIsRetriedNextTime() {
+        RosterCache cache = new RosterCache(() -> Mono.just(List.of(employee("John Doe", 5000))), Duration.ofSeconds(30));
+        RosterStore store = store(500);
+        store.attach(cache);
+        cache.get().block();
+        store.flush();
+
+        cache.update(roster -> roster.add(employee("Bill Bob", 9000)));
+        failNextSave.set(true);
+
+        assertEquals(0, store.flush());
+        assertEquals(1, store.getFailedFlushes());
+        assertEquals(1, store.getPending());
+        long rowsWritten = store.getRowsWritten();
+
+        assertEquals(1, store.flush());
+
+        assertEquals(List.of("John Doe", "Bill Bob"), persistedNames());
+        assertEquals(rowsWritten + 1, store.getRowsWritten());
+        assertEquals(0, store.getPending());
+    }
+
+    private RosterStore store(int batchSize) {
+        return new RosterStore(repository, TransactionOperations.withoutTransaction(), batchSize, Duration.ZERO);
+    }
+
+    private void persist(Employee... employees) {
+        for (Employee employee : employees) {
+            EmployeeEntity entity = EmployeeEntity.of(employee);
+            entity.setRowId(sequence.incrementAndGet());
+            table.put(entity.getRowId(), entity);
+        }
+    }
+
+    private List<String> persistedNames() {
+        return table.values().stream().map(entity -> entity.toEmployee().getName()).toList();
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getName).toList();
+    }
+
+    private static Employee employee(String name, Integer salary) {
+        return new Employee(null, name, salary, 30, "SDE", name.replace(' ', '.').toLowerCase() + "@company.com");
+    }
+}
@@ -0,0 +1,196 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.dto.Employee;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void coldCacheLoadsOnceAndServesFreshSnapshot() {
+        RosterCache cache = new RosterCache(() -> load(List.of(employee("John Doe", 5000))), Duration.ofSeconds(30), clock);
+
+        assertEquals(1, cache.get().block().size());
+        assertEquals(1, cache.get().block().size());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void staleSnapshotIsServedWhileRefreshing() {
+        List<List<Employee>> responses = List.of(
+                List.of(employee("John Doe", 5000)),
+                List.of(employee("John Doe", 5000), employee("Luke Shaw", 2000)));
+        RosterCache cache = new RosterCache(() -> load(responses.get(loads.get())), Duration.ofSeconds(30), clock);
+        cache.get().block();
+
+        clock.advance(Duration.ofSeconds(31));
+
+        assertEquals(1, cache.get().block().size());
+        assertEquals(2, loads.get());
+        assertEquals(2, cache.get().block().size());
+    }
+
+    @Test
+    void failedRefreshKeepsLastGoodSnapshot() {
+        RosterCache cache = new RosterCache(() -> loads.getAndIncrement() == 0
+                ? Mono.just(List.of(employee("John Doe", 5000)))
+                : Mono.error(new IllegalStateException("429 Too Many Requests")), Duration.ofSeconds(30), clock);
+        cache.get().block();
+
+        clock.advance(Duration.ofSeconds(31));
+
+        assertEquals(1, cache.get().block().size());
+        assertEquals(1, cache.get().block().size());
+    }
+
+    @Test
+    void updatesAreAppliedToCachedSnapshot() {
+        RosterCache cache = new RosterCache(() -> load(List.of(employee("John Doe", 5000))), Duration.ofSeconds(30), clock);
+        cache.get().block();
+
+        cache.update(roster -> roster.add(employee("Luke Shaw", 2000)));
+        assertEquals(2, cache.get().block().size());
+
+        cache.update(roster -> roster.removeByName("JOHN DOE"));
+        assertEquals(List.of("Luke Shaw"), cache.get().block().employees().stream().map(Employee::getName).toList());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void reportedChangesDoNotDiscardRefreshInFlight() {
+        Sinks.One<List<Employee>> refresh = Sinks.one();
+        RosterCache cache = new RosterCache(() -> loads.getAndIncrement() == 0
+                ? Mono.just(List.of(employee("John Doe", 5000)))
+                : refresh.asMono(), Duration.ofSeconds(30), clock);
+        cache.get().block();
+        clock.advance(Duration.ofSeconds(31));
+        cache.get().block();
+
+        cache.apply(roster -> roster.add(employee("Luke Shaw", 2000)));
+        assertEquals(2, cache.get().block().size());
+
+        refresh.tryEmitValue(List.of(employee("John Doe", 5000), employee("Luke Shaw", 2000), employee("Jane Roe", 7000)));
+        assertEquals(3, cache.get().block().size());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void writeDuringFirstLoadIsNotLost() {
+        Sinks.One<List<Employee>> firstLoad = Sinks.one();
+        RosterCache cache = new RosterCache(() -> loads.getAndIncrement() == 0
+                ? firstLoad.asMono()
+                : Mono.just(List.of(employee("John Doe", 5000), employee("Luke Shaw", 2000))),
+                Duration.ofSeconds(30), clock);
+        AtomicReference<Roster> read = new AtomicReference<>();
+        cache.get().subscribe(read::set);
+
+        cache.update(roster -> roster.add(employee("Luke Shaw", 2000)));
+        firstLoad.tryEmitValue(List.of(employee("John Doe", 5000)));
+
+        assertEquals(2, read.get().size());
+        assertEquals(2, cache.get().block().size());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void coldCallersShareOneLoadAndInstall() {
+        Sinks.One<List<Employee>> firstLoad = Sinks.one();
+        AtomicInteger installs = new AtomicInteger();
+        RosterCache cache = new RosterCache(() -> {
+            loads.incrementAndGet();
+            return firstLoad.asMono();
+        }, Duration.ofSeconds(30), clock);
+        cache.onInstall(roster -> installs.incrementAndGet());
+        AtomicReference<Roster> first = new AtomicReference<>();
+        AtomicReference<Roster> second = new AtomicReference<>();
+        cache.get().subscribe(first::set);
+        cache.get().subscribe(second::set);
+
+        firstLoad.tryEmitValue(List.of(employee("John Doe", 5000)));
+
+        assertSame(first.get(), second.get());
+        assertEquals(1, loads.get());
+        assertEquals(1, installs.get());
+    }
+
+    @Test
+    void confirmedSnapshotStaysFreshAndExpiredOneRefreshes() {
+        AtomicInteger installs = new AtomicInteger();
+        RosterCache cache = new RosterCache(() -> load(List.of(employee("John Doe", 5000))), Duration.ofSeconds(30), clock);
+        cache.onInstall(roster -> installs.incrementAndGet());
+        cache.get().block();
+
+        clock.advance(Duration.ofSeconds(20));
+        cache.confirmFresh();
+        clock.advance(Duration.ofSeconds(20));
+        cache.get().block();
+        assertEquals(1, loads.get());
+
+        cache.expire();
+        cache.get().block();
+        assertEquals(2, loads.get());
+        assertEquals(2, installs.get());
+    }
+
+    @Test
+    void preloadedRosterIsServedAtOnceAndRevalidated() {
+        RosterCache cache = new RosterCache(() -> load(List.of(employee("John Doe", 5000), employee("Luke Shaw", 2000))),
+                Duration.ofSeconds(30), clock);
+
+        assertNotNull(cache.preload(List.of(employee("John Doe", 5000))));
+        assertNull(cache.preload(List.of()));
+
+        assertEquals(1, cache.get().block().size());
+        assertEquals(1, loads.get());
+        assertEquals(2, cache.get().block().size());
+    }
+
+    private Mono<List<Employee>> load(List<Employee> employees) {
+        return Mono.fromCallable(() -> {
+            loads.incrementAndGet();
+            return employees;
+        });
+    }
+
+    private static Employee employee(String name, Integer salary) {
+        return new Employee(null, name, salary, 30, "SDE", null);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
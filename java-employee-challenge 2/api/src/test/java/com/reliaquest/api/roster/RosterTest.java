@@ -0,0 +1,115 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.dto.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterTest {
+
+    @Test
+    void highestSalaryAndTopEarnersFollowWrites() {
+        Roster roster = Roster.of(List.of(
+                employee("John Doe", 5000),
+                employee("Luke Shaw", 2000),
+                employee("Jane Roe", 7000)));
+
+        assertEquals(Optional.of(7000), roster.highestSalary());
+        assertEquals(List.of("Jane Roe", "John Doe"), names(roster.topEarners(2)));
+
+        roster.add(employee("Bill Bob", 9000));
+        assertEquals(Optional.of(9000), roster.highestSalary());
+
+        roster.removeByName("bill bob");
+        roster.removeByName("Jane Roe");
+        assertEquals(Optional.of(5000), roster.highestSalary());
+        assertEquals(List.of("John Doe", "Luke Shaw"), names(roster.topEarners(10)));
+    }
+
+    @Test
+    void employeesWithoutSalaryRankLastInsteadOfFailing() {
+        Roster roster = Roster.of(List.of(employee("No Salary", null), employee("John Doe", 5000)));
+
+        assertEquals(Optional.of(5000), roster.highestSalary());
+        assertEquals(List.of("John Doe", "No Salary"), names(roster.topEarners(10)));
+    }
+
+    @Test
+    void emptyRosterHasNoHighestSalary() {
+        Roster roster = Roster.of(List.of(employee("No Salary", null)));
+
+        assertEquals(Optional.empty(), roster.highestSalary());
+        roster.removeByName("No Salary");
+        assertTrue(roster.topEarners(10).isEmpty());
+    }
+
+    @Test
+    void nameSearchIsCaseInsensitiveSubstringMatchInRosterOrder() {
+        Roster roster = Roster.of(List.of(
+                employee("John Doe", 5000),
+                employee("Luke Shaw", 2000),
+                employee("Johnny Shawn", 7000),
+                employee(null, 1000)));
+
+        assertEquals(List.of("John Doe", "Johnny Shawn"), names(roster.searchByName("JOHN")));
+        assertEquals(List.of("Luke Shaw", "Johnny Shawn"), names(roster.searchByName("sh")));
+        assertEquals(List.of("Johnny Shawn"), names(roster.searchByName("ny shawn")));
+        assertEquals(List.of(), names(roster.searchByName("nhoj")));
+        assertEquals(3, roster.searchByName("").size());
+    }
+
+    @Test
+    void nameSearchFollowsWrites() {
+        Roster roster = Roster.of(List.of(employee("John Doe", 5000)));
+
+        roster.add(employee("Jane Doe", 6000));
+        assertEquals(List.of("John Doe", "Jane Doe"), names(roster.searchByName(" doe")));
+
+        roster.removeByName("john doe");
+        assertEquals(List.of("Jane Doe"), names(roster.searchByName(" doe")));
+        assertEquals(List.of(), names(roster.searchByName("john")));
+    }
+
+    @Test
+    void replayedChangesAreAppliedOnce() {
+        Roster roster = Roster.of(List.of(employee("John Doe", 5000), employee("John Doe", 6000)));
+
+        assertFalse(roster.addIfAbsent(employee("John Doe", 5000)));
+        assertTrue(roster.addIfAbsent(employee("Luke Shaw", 2000)));
+        assertTrue(roster.remove(employee("John Doe", 6000)));
+        assertFalse(roster.remove(employee("John Doe", 6000)));
+
+        assertEquals(List.of("John Doe", "Luke Shaw"), names(roster.employees()));
+        assertEquals(Optional.of(5000), roster.highestSalary());
+    }
+
+    @Test
+    void employeesWithEqualAttributesAreToldApartByUpstreamId() {
+        Roster roster = Roster.of(List.of(
+                employee("John Doe", 5000, "a"), employee("John Doe", 5000, "b"), employee("Jane Roe", 7000, "c")));
+
+        assertFalse(roster.addIfAbsent(employee("John Doe", 5000, "b")));
+        assertTrue(roster.remove(employee("John Doe", 5000, "b")));
+        assertFalse(roster.remove(employee("John Doe", 5000, "b")));
+        assertTrue(roster.addIfAbsent(employee("John Doe", 5000, "d")));
+
+        assertEquals(List.of("a", "c", "d"), roster.employees().stream().map(Employee::getUpstreamId).toList());
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getName).toList();
+    }
+
+    private static Employee employee(String name, Integer salary) {
+        return new Employee(null, name, salary, 30, "SDE", null);
+    }
+
+    private static Employee employee(String name, Integer salary, String upstreamId) {
+        Employee employee = employee(name, salary);
+        employee.setUpstreamId(upstreamId);
+        return employee;
+    }
+}
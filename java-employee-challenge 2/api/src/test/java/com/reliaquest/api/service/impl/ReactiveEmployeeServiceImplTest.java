@@ -0,0 +1,293 @@
+package com.reliaquest.api.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.client.EmployeeChangeFeed;
+import com.reliaquest.api.client.EmployeePayloadDecoder;
+import com.reliaquest.api.client.HedgedRead;
+import com.reliaquest.api.client.UpstreamCircuitBreaker;
+import com.reliaquest.api.client.UpstreamRateLimitedException;
+import com.reliaquest.api.client.UpstreamTimeouts;
+import com.reliaquest.api.client.UpstreamUnavailableException;
+import com.reliaquest.api.dto.BulkCreateResult;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.repository.RosterStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveEmployeeServiceImplTest {
+
+    private static final UpstreamTimeouts TIMEOUTS =
+            new UpstreamTimeouts(Duration.ofSeconds(5), Duration.ofSeconds(5), Duration.ofSeconds(5));
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(1);
+    private static final String CREATED = "{\"data\":{\"id\":1,\"employee_name\":\"Luke Shaw\"},\"status\":\"ok\"}";
+
+    @Test
+    void bulkCreateKeepsAtMostConcurrencyCallsInFlight() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ExchangeFunction upstream = request -> Mono.fromSupplier(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return created();
+                })
+                .delayElement(Duration.ofMillis(20))
+                .doOnNext(ignored -> inFlight.decrementAndGet());
+
+        List<BulkCreateResult> results = service(upstream, 3, 5).createEmployees(Flux.range(0, 12).map(this::input))
+                .collectList()
+                .block();
+
+        assertEquals(12, results.size());
+        assertTrue(results.stream().allMatch(result -> result.error() == null));
+        assertEquals("Luke Shaw", results.get(0).employee().getName());
+        assertEquals(3, maxInFlight.get());
+    }
+
+    @Test
+    void bulkCreateRetriesRateLimitedCallsAndReportsOtherFailures() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction upstream = request -> Mono.defer(() -> switch (calls.incrementAndGet()) {
+            case 1 -> Mono.error(new UpstreamRateLimitedException(Duration.ofMillis(10)));
+            case 2 -> Mono.just(ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS).build());
+            case 3 -> Mono.just(ClientResponse.create(HttpStatus.BAD_REQUEST).build());
+            default -> Mono.just(created());
+        });
+
+        List<BulkCreateResult> results = service(upstream, 1, 5).createEmployees(Flux.just(input(0), input(1)))
+                .sort(Comparator.comparingLong(BulkCreateResult::index))
+                .collectList()
+                .block();
+
+        assertNull(results.get(0).employee());
+        assertTrue(results.get(0).error().contains("400"));
+        assertNotNull(results.get(1).employee());
+        assertNull(results.get(1).error());
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void bulkCreateWaitsBeforeRetryingThrottledCalls() {
+        List<Long> callTimes = new ArrayList<>();
+        ExchangeFunction upstream = request -> Mono.fromSupplier(() -> {
+            callTimes.add(System.nanoTime());
+            return switch (callTimes.size()) {
+                case 1 -> ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .build();
+                case 2, 3 -> ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS).build();
+                default -> created();
+            };
+        });
+
+        BulkCreateResult result = service(upstream, false, 1, 5, Duration.ofMillis(100))
+                .createEmployees(Flux.just(input(0)))
+                .blockLast();
+
+        assertNull(result.error());
+        assertEquals(4, callTimes.size());
+        assertTrue(callTimes.get(1) - callTimes.get(0) >= Duration.ofSeconds(1).toNanos());
+        assertTrue(callTimes.get(2) - callTimes.get(1) >= Duration.ofMillis(200).toNanos());
+        assertTrue(callTimes.get(3) - callTimes.get(2) >= Duration.ofMillis(400).toNanos());
+    }
+
+    @Test
+    void bulkCreateGivesUpAfterMaxRetries() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction upstream = request -> Mono.fromSupplier(() -> {
+            calls.incrementAndGet();
+            return ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS).build();
+        });
+
+        BulkCreateResult result = service(upstream, 1, 2).createEmployees(Flux.just(input(0))).blockLast();
+
+        assertNotNull(result.error());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void cachedRosterFollowsChangeFeedFromWhereTheLoadStarted() throws InterruptedException {
+        AtomicInteger rosterLoads = new AtomicInteger();
+        ExchangeFunction upstream = request -> Mono.fromSupplier(() -> switch (request.url().getPath()) {
+            case "/changes" -> json("{\"data\":[],\"nextCursor\":\"c0\"}");
+            case "/changes/stream" -> "c0".equals(request.url().getQuery().substring("since=".length()))
+                    ? ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                            .body(":heartbeat\n\n"
+                                    + "id:c1\nevent:created\ndata:{\"employee_name\":\"Luke Shaw\"}\n\n"
+                                    + "id:c2\nevent:deleted\ndata:{\"employee_name\":\"John Doe\"}\n\n")
+                            .build()
+                    : ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                            .body(Flux.never())
+                            .build();
+            default -> {
+                rosterLoads.incrementAndGet();
+                yield json("{\"data\":[{\"employee_name\":\"John Doe\"}]}");
+            }
+        });
+        ReactiveEmployeeServiceImpl service = service(upstream, true, 1, 5);
+
+        List<String> names = names(service.getAllEmployees().collectList().block());
+        for (int i = 0; i < 100 && !names.equals(List.of("Luke Shaw")); i++) {
+            Thread.sleep(20);
+            names = names(service.getAllEmployees().collectList().block());
+        }
+
+        assertEquals(List.of("Luke Shaw"), names);
+        assertEquals(1, rosterLoads.get());
+    }
+
+    @Test
+    void changeFeedDeletesTheEmployeeItNamesById() throws InterruptedException {
+        ExchangeFunction upstream = request -> Mono.fromSupplier(() -> switch (request.url().getPath()) {
+            case "/changes" -> json("{\"data\":[],\"nextCursor\":\"c0\"}");
+            case "/changes/stream" -> ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                    .body("id:c1\nevent:deleted\ndata:{\"id\":\"b\",\"employee_name\":\"John Doe\"}\n\n")
+                    .build();
+            default -> json("{\"data\":[{\"id\":\"a\",\"employee_name\":\"John Doe\"},"
+                    + "{\"id\":\"b\",\"employee_name\":\"John Doe\"}]}");
+        });
+        ReactiveEmployeeServiceImpl service = service(upstream, true, 1, 5);
+
+        List<Employee> employees = service.getAllEmployees().collectList().block();
+        for (int i = 0; i < 100 && employees.size() > 1; i++) {
+            Thread.sleep(20);
+            employees = service.getAllEmployees().collectList().block();
+        }
+
+        assertEquals(List.of("a"), employees.stream().map(Employee::getUpstreamId).toList());
+    }
+
+    @Test
+    void coldCacheReadsSalariesFromStatisticsEndpoint() {
+        AtomicInteger rosterLoads = new AtomicInteger();
+        ExchangeFunction upstream = request -> Mono.fromSupplier(() -> {
+            if (request.url().getPath().equals("/stats")) {
+                assertEquals("top=10", request.url().getQuery());
+                return json("{\"data\":{\"headcount\":2,\"maxSalary\":320800,\"minSalary\":1000,"
+                        + "\"topEarners\":[{\"employee_name\":\"Tiger Nixon\"},{\"employee_name\":\"Bill Bob\"}],"
+                        + "\"ageDistribution\":{}}}");
+            }
+            rosterLoads.incrementAndGet();
+            return json("{\"data\":[]}");
+        });
+        ReactiveEmployeeServiceImpl service = service(upstream, 1, 5);
+
+        assertEquals(320800, service.getHighestSalary().block());
+        assertEquals(List.of("Tiger Nixon", "Bill Bob"),
+                service.getTopTenHighestEarningEmployeeNames().collectList().block());
+        assertEquals(0, rosterLoads.get());
+        assertFalse(service.getRosterCache().isLoaded());
+    }
+
+    @Test
+    void salariesComeFromRosterWhenStatisticsFailOrRosterIsCached() {
+        AtomicInteger statsCalls = new AtomicInteger();
+        ExchangeFunction upstream = request -> Mono.fromSupplier(() -> {
+            if (request.url().getPath().equals("/stats")) {
+                statsCalls.incrementAndGet();
+                return ClientResponse.create(HttpStatus.NOT_FOUND).build();
+            }
+            return json("{\"data\":[{\"employee_name\":\"John Doe\",\"employee_salary\":1000},"
+                    + "{\"employee_name\":\"Luke Shaw\",\"employee_salary\":2000}]}");
+        });
+        ReactiveEmployeeServiceImpl service = service(upstream, 1, 5);
+
+        assertEquals(2000, service.getHighestSalary().block());
+        assertEquals(1, statsCalls.get());
+        assertEquals(List.of("Luke Shaw", "John Doe"),
+                service.getTopTenHighestEarningEmployeeNames().collectList().block());
+        assertEquals(1, statsCalls.get());
+    }
+
+    @Test
+    void slowLookupTimesOutAndRepeatedFailuresOpenTheCircuit() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction upstream = request -> {
+            calls.incrementAndGet();
+            return Mono.never();
+        };
+        WebClient webClient = WebClient.builder().exchangeFunction(upstream).build();
+        EmployeePayloadDecoder payloadDecoder = decoder();
+        ReactiveEmployeeServiceImpl service = new ReactiveEmployeeServiceImpl(webClient, payloadDecoder,
+                new EmployeeChangeFeed(webClient, payloadDecoder), new UpstreamCircuitBreaker(2, Duration.ofMinutes(1)),
+                new UpstreamTimeouts(Duration.ofSeconds(5), Duration.ofMillis(50), Duration.ofSeconds(5)),
+                none(HedgedRead.class), none(RosterStore.class),
+                Duration.ofSeconds(30), false, 5000, 1, 5, RETRY_BACKOFF);
+
+        for (int i = 0; i < 2; i++) {
+            RuntimeException failure = assertThrows(RuntimeException.class, () -> service.getEmployeeById("1").block());
+            assertInstanceOf(TimeoutException.class, failure.getCause());
+        }
+        RuntimeException rejected = assertThrows(RuntimeException.class, () -> service.getEmployeeById("1").block());
+
+        assertInstanceOf(UpstreamUnavailableException.class, rejected.getCause());
+        assertEquals(2, calls.get());
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getName).toList();
+    }
+
+    private Object input(int index) {
+        return Map.of("name", "Employee " + index, "salary", 1000, "age", 30, "title", "SDE");
+    }
+
+    private static ClientResponse created() {
+        return json(CREATED);
+    }
+
+    private static ClientResponse json(String body) {
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+
+    private static EmployeePayloadDecoder decoder() {
+        return new EmployeePayloadDecoder(new ObjectMapper(), new ObjectMapper(new SmileFactory()));
+    }
+
+    private static <T> ObjectProvider<T> none(Class<T> type) {
+        return new StaticListableBeanFactory().getBeanProvider(type);
+    }
+
+    private static ReactiveEmployeeServiceImpl service(ExchangeFunction upstream, int concurrency, int maxRetries) {
+        return service(upstream, false, concurrency, maxRetries);
+    }
+
+    private static ReactiveEmployeeServiceImpl service(ExchangeFunction upstream, boolean rosterSync, int concurrency,
+                                                       int maxRetries) {
+        return service(upstream, rosterSync, concurrency, maxRetries, RETRY_BACKOFF);
+    }
+
+    private static ReactiveEmployeeServiceImpl service(ExchangeFunction upstream, boolean rosterSync, int concurrency,
+                                                       int maxRetries, Duration retryBackoff) {
+        WebClient webClient = WebClient.builder().exchangeFunction(upstream).build();
+        EmployeePayloadDecoder payloadDecoder = decoder();
+        return new ReactiveEmployeeServiceImpl(webClient, payloadDecoder, new EmployeeChangeFeed(webClient, payloadDecoder),
+                new UpstreamCircuitBreaker(5, Duration.ofSeconds(10)), TIMEOUTS,
+                none(HedgedRead.class), none(RosterStore.class),
+                Duration.ofSeconds(30), rosterSync, 5000, concurrency, maxRetries, retryBackoff);
+    }
+}
@@ -0,0 +1,101 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.EmployeeChangeLog;
+import com.reliaquest.server.service.EmployeeStatistics;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.ColumnarEmployeeStore;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.IndexedEmployeeStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * CRUD operations of the mock server's {@link MockEmployeeService} at varying roster sizes, on each store.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MockEmployeeServiceBenchmark {
+
+    private static final String HIRE_NAME = "Benchmark Hire";
+
+    @Param({"1000", "100000", "1000000"})
+    public int employees;
+
+    @Param({"indexed", "columnar"})
+    public String store;
+
+    private UUID[] ids;
+    private int next;
+    private MockEmployeeService service;
+    private CreateMockEmployeeInput createInput;
+    private DeleteMockEmployeeInput deleteInput;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(Rosters.SEED);
+        List<MockEmployee> roster = new ArrayList<>(employees);
+        ids = new UUID[employees];
+        for (int i = 0; i < employees; i++) {
+            ids[i] = new UUID(random.nextLong(), random.nextLong());
+            roster.add(MockEmployee.builder()
+                    .id(ids[i])
+                    .name(Rosters.name(random))
+                    .salary(random.nextInt(30000, 500000))
+                    .age(random.nextInt(16, 70))
+                    .title("Accountant")
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        final EmployeeStore employeeStore =
+                "columnar".equals(store) ? new ColumnarEmployeeStore(roster) : new IndexedEmployeeStore(roster);
+        service = new MockEmployeeService(
+                new Faker(Locale.ENGLISH, new Random(Rosters.SEED)),
+                employeeStore,
+                new EmployeeChangeLog(10_000),
+                new EmployeeStatistics(employeeStore::snapshot, 100));
+
+        createInput = new CreateMockEmployeeInput();
+        createInput.setName(HIRE_NAME);
+        createInput.setSalary(100000);
+        createInput.setAge(30);
+        createInput.setTitle("Accountant");
+        deleteInput = new DeleteMockEmployeeInput();
+        deleteInput.setName(HIRE_NAME);
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        UUID id = ids[next];
+        next = next + 1 == ids.length ? 0 : next + 1;
+        return service.findById(id);
+    }
+
+    /**
+     * Paired so the roster size stays at the parameter value for the whole iteration.
+     */
+    @Benchmark
+    public boolean createThenDelete() {
+        service.create(createInput);
+        return service.delete(deleteInput);
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.client.EmployeePayloadDecoder;
+import com.reliaquest.api.dto.Employee;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+/**
+ * Decoding of a full roster response the way the API receives it: as a stream of network-sized chunks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RosterDecodingBenchmark {
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    @Param({"1000", "100000", "1000000"})
+    public int employees;
+
+    private byte[] payload;
+    private EmployeePayloadDecoder decoder;
+
+    @Setup
+    public void setUp() {
+        payload = Rosters.rosterPayload(employees);
+        decoder = WireFormats.decoder();
+    }
+
+    @Benchmark
+    public List<Employee> decodeRoster() {
+        return decoder.decode(chunks()).collectList().block();
+    }
+
+    private Flux<DataBuffer> chunks() {
+        List<DataBuffer> buffers = new ArrayList<>(payload.length / CHUNK_SIZE + 1);
+        for (int offset = 0; offset < payload.length; offset += CHUNK_SIZE) {
+            int length = Math.min(CHUNK_SIZE, payload.length - offset);
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                    ByteBuffer.wrap(payload, offset, length).slice()));
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.roster.Roster;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Read queries served by the API: the indexed {@link Roster} next to the linear scans it replaced, so the gap stays
+ * visible as the roster grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RosterQueryBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int employees;
+
+    @Param({"an", "nixon"})
+    public String searchString;
+
+    private List<Employee> list;
+    private Roster roster;
+
+    @Setup
+    public void setUp() {
+        list = Rosters.employees(employees);
+        roster = Roster.of(list);
+    }
+
+    @Benchmark
+    public List<Employee> searchIndexed() {
+        return roster.searchByName(searchString);
+    }
+
+    @Benchmark
+    public List<Employee> searchLinearScan() {
+        return list.stream()
+                .filter(emp ->
+                        emp.getName() != null && emp.getName().toLowerCase().contains(searchString.toLowerCase()))
+                .toList();
+    }
+
+    @Benchmark
+    public Integer highestSalaryIndexed() {
+        return roster.highestSalary().orElse(0);
+    }
+
+    @Benchmark
+    public Integer highestSalaryLinearScan() {
+        return list.stream()
+                .map(Employee::getSalary)
+                .filter(Objects::nonNull)
+                .max(Integer::compareTo)
+                .orElse(0);
+    }
+
+    @Benchmark
+    public List<String> topTenIndexed() {
+        return roster.topEarners(10).stream().map(Employee::getName).toList();
+    }
+
+    @Benchmark
+    public List<String> topTenSorted() {
+        return list.stream()
+                .sorted(Comparator.comparing(Employee::getSalary, Comparator.reverseOrder()))
+                .limit(10)
+                .map(Employee::getName)
+                .toList();
+    }
+}
@@ -0,0 +1,100 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic roster fixtures shared by the benchmarks, so runs on different machines measure the same data.
+ */
+final class Rosters {
+
+    static final long SEED = 42L;
+
+    private static final String[] FIRST_NAMES = {
+        "Tiger", "Bill", "Jill", "Garrett", "Ashton", "Cedric", "Airi", "Brielle", "Herrod", "Rhona", "Colleen", "Sonya"
+    };
+    private static final String[] LAST_NAMES = {
+        "Nixon", "Bob", "Jenkins", "Winters", "Cox", "Kelly", "Satou", "Williamson", "Chandler", "Davidson", "Hurst"
+    };
+    private static final String[] TITLES = {
+        "Documentation Engineer", "Financial Advisor", "Vice Chair", "Accountant", "Regional Sales Manager"
+    };
+
+    private Rosters() {}
+
+    static List<Employee> employees(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(new Employee(
+                    i,
+                    name(random),
+                    random.nextInt(30000, 500000),
+                    random.nextInt(16, 70),
+                    TITLES[random.nextInt(TITLES.length)],
+                    "employee" + i + "@company.com"));
+        }
+        return employees;
+    }
+
+    static String name(SplittableRandom random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    /**
+     * @return the mock server's roster of the given size, the same employees as {@link #rosterPayload(int)} carries
+     */
+    static List<MockEmployee> mockEmployees(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<MockEmployee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(MockEmployee.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .name(name(random))
+                    .salary(random.nextInt(30000, 500000))
+                    .age(random.nextInt(16, 70))
+                    .title(TITLES[random.nextInt(TITLES.length)])
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        return employees;
+    }
+
+    /**
+     * @return the mock server's {@code GET /api/v1/employee} response body for a roster of the given size
+     */
+    static byte[] rosterPayload(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size * 220);
+        StringBuilder record = new StringBuilder(256);
+        out.writeBytes("{\"data\":[".getBytes(StandardCharsets.UTF_8));
+        for (int i = 0; i < size; i++) {
+            record.setLength(0);
+            if (i > 0) {
+                record.append(',');
+            }
+            record.append("{\"id\":\"")
+                    .append(new UUID(random.nextLong(), random.nextLong()))
+                    .append("\",\"employee_name\":\"")
+                    .append(name(random))
+                    .append("\",\"employee_salary\":")
+                    .append(random.nextInt(30000, 500000))
+                    .append(",\"employee_age\":")
+                    .append(random.nextInt(16, 70))
+                    .append(",\"employee_title\":\"")
+                    .append(TITLES[random.nextInt(TITLES.length)])
+                    .append("\",\"employee_email\":\"employee")
+                    .append(i)
+                    .append("@company.com\"}");
+            out.writeBytes(record.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        out.writeBytes("],\"status\":\"Successfully processed request.\"}".getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+}
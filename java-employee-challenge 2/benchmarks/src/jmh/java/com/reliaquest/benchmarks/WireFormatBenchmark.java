@@ -0,0 +1,77 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.EmployeePayloadDecoder;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+/**
+ * A full roster response in each wire format the mock server negotiates: encoding it as the server does, and decoding
+ * it chunk by chunk as the API does.
+ * <p>
+ * Both sides use the mappers of {@link WireFormats}. Payload sizes do not vary between runs, so they are not measured
+ * here; {@code ./gradlew benchmarks:wireFormatSizes} reports them, raw and gzipped.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WireFormatBenchmark {
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    @Param({"1000", "100000", "1000000"})
+    public int employees;
+
+    @Param({"json", "smile"})
+    public String format;
+
+    private Response<List<MockEmployee>> response;
+    private ObjectMapper objectMapper;
+    private byte[] payload;
+    private EmployeePayloadDecoder decoder;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        response = Response.handledWith(Rosters.mockEmployees(employees));
+        objectMapper = WireFormats.mapper(format);
+        payload = objectMapper.writeValueAsBytes(response);
+        decoder = WireFormats.decoder();
+    }
+
+    @Benchmark
+    public byte[] encodeRoster() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public List<Employee> decodeRoster() {
+        return decoder.decode(chunks()).collectList().block();
+    }
+
+    private Flux<DataBuffer> chunks() {
+        List<DataBuffer> buffers = new ArrayList<>(payload.length / CHUNK_SIZE + 1);
+        for (int offset = 0; offset < payload.length; offset += CHUNK_SIZE) {
+            int length = Math.min(CHUNK_SIZE, payload.length - offset);
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                    ByteBuffer.wrap(payload, offset, length).slice()));
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
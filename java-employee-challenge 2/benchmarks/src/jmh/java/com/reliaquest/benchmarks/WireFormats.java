@@ -0,0 +1,60 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.EmployeePayloadDecoder;
+import com.reliaquest.server.config.WireFormatConfiguration;
+import com.reliaquest.server.model.Response;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * The mappers a roster response is written and read with in each wire format, configured as the Server and the API
+ * configure theirs. Run on its own, it reports the size of a roster response in each format, raw and gzipped, which
+ * does not vary between runs and so is not measured by {@link WireFormatBenchmark}.
+ */
+final class WireFormats {
+
+    static final ObjectMapper JSON = Jackson2ObjectMapperBuilder.json().build();
+    static final ObjectMapper SMILE = WireFormatConfiguration.smileObjectMapper(Jackson2ObjectMapperBuilder.json());
+
+    private static final int[] ROSTER_SIZES = {1000, 100000, 1000000};
+
+    private WireFormats() {}
+
+    static ObjectMapper mapper(String format) {
+        return switch (format) {
+            case "json" -> JSON;
+            case "smile" -> SMILE;
+            default -> throw new IllegalArgumentException("Unknown wire format: " + format);
+        };
+    }
+
+    static EmployeePayloadDecoder decoder() {
+        return new EmployeePayloadDecoder(JSON, SMILE);
+    }
+
+    public static void main(String[] args) throws JsonProcessingException {
+        System.out.printf("%-8s %-6s %14s %14s%n", "roster", "format", "bytes", "gzipped");
+        for (int size : ROSTER_SIZES) {
+            Response<?> response = Response.handledWith(Rosters.mockEmployees(size));
+            for (String format : new String[] {"json", "smile"}) {
+                byte[] payload = mapper(format).writeValueAsBytes(response);
+                System.out.printf("%-8d %-6s %14d %14d%n", size, format, payload.length, gzipped(payload));
+            }
+        }
+    }
+
+    private static int gzipped(byte[] payload) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.size();
+    }
+}
@@ -0,0 +1,105 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Polls the API's own JVM metrics from its actuator once a second during the measured part of the run and keeps the
+ * highest value of each, so two runs can be compared on memory and threads as well as on latency.
+ * <p>
+ * {@code jvm.threads.*} only counts platform threads; in virtual-thread mode the request threads do not show up there
+ * but in the heap, which is why both are reported.
+ */
+@Slf4j
+class ApiResourceSampler implements AutoCloseable {
+
+    private static final Map<String, String> METRICS = metrics();
+
+    private final HttpClient client;
+    private final String apiUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Double> max = new LinkedHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "api-resource-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private int samples;
+
+    private ApiResourceSampler(HttpClient client, String apiUrl) {
+        this.client = client;
+        this.apiUrl = apiUrl;
+    }
+
+    static ApiResourceSampler start(HttpClient client, String apiUrl, Duration delay) {
+        ApiResourceSampler sampler = new ApiResourceSampler(client, apiUrl);
+        sampler.scheduler.scheduleAtFixedRate(sampler::sample, delay.toMillis(), 1000, TimeUnit.MILLISECONDS);
+        return sampler;
+    }
+
+    /**
+     * @return the highest value of each metric, heap in MiB; empty if the actuator could not be read
+     */
+    synchronized Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("samples", samples);
+        max.forEach((name, value) -> summary.put(name, name.endsWith("Mb") ? Math.round(value / (1 << 20)) : value));
+        return summary;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void sample() {
+        Map<String, Double> values = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, String> metric : METRICS.entrySet()) {
+                HttpResponse<String> response = client.send(
+                        HttpRequest.newBuilder(URI.create(apiUrl + "/actuator/metrics/" + metric.getValue()))
+                                .timeout(Duration.ofSeconds(2))
+                                .GET()
+                                .build(),
+                        HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    log.debug("Actuator answered {} for {}", response.statusCode(), metric.getValue());
+                    return;
+                }
+                JsonNode measurement = objectMapper
+                        .readTree(response.body())
+                        .path("measurements")
+                        .path(0);
+                values.put(metric.getKey(), measurement.path("value").asDouble());
+            }
+        } catch (Exception e) {
+            log.debug("Unable to sample API metrics: {}", e.getMessage());
+            return;
+        }
+        synchronized (this) {
+            samples++;
+            values.forEach((name, value) -> max.merge(name, value, Math::max));
+        }
+    }
+
+    private static Map<String, String> metrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("heapUsedMaxMb", "jvm.memory.used?tag=area:heap");
+        metrics.put("heapCommittedMaxMb", "jvm.memory.committed?tag=area:heap");
+        metrics.put("nonHeapUsedMaxMb", "jvm.memory.used?tag=area:nonheap");
+        metrics.put("liveThreadsMax", "jvm.threads.live");
+        metrics.put("processCpuMax", "process.cpu.usage");
+        return metrics;
+    }
+}
@@ -0,0 +1,90 @@
+package com.reliaquest.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * The {@code IEmployeeController} routes the load test can drive, keyed by the names used in the mix.
+ */
+enum Endpoint {
+    GET_ALL("getAllEmployees") {
+        @Override
+        HttpRequest request(String apiUrl, Fixtures fixtures, SplittableRandom random) {
+            return get(apiUrl);
+        }
+    },
+    SEARCH("search") {
+        @Override
+        HttpRequest request(String apiUrl, Fixtures fixtures, SplittableRandom random) {
+            return get(apiUrl + "/search/" + encode(fixtures.searchFragment(random)));
+        }
+    },
+    GET_BY_ID("getById") {
+        @Override
+        HttpRequest request(String apiUrl, Fixtures fixtures, SplittableRandom random) {
+            return get(apiUrl + "/" + encode(fixtures.id(random)));
+        }
+    },
+    HIGHEST_SALARY("highestSalary") {
+        @Override
+        HttpRequest request(String apiUrl, Fixtures fixtures, SplittableRandom random) {
+            return get(apiUrl + "/highestSalary");
+        }
+    },
+    TOP_TEN("topTen") {
+        @Override
+        HttpRequest request(String apiUrl, Fixtures fixtures, SplittableRandom random) {
+            return get(apiUrl + "/topTenHighestEarningEmployeeNames");
+        }
+    },
+    CREATE("create") {
+        @Override
+        HttpRequest request(String apiUrl, Fixtures fixtures, SplittableRandom random) {
+            String body = "{\"name\":\"Load Test %d\",\"salary\":%d,\"age\":%d,\"title\":\"Load Tester\"}"
+                    .formatted(random.nextInt(1_000_000), random.nextInt(30000, 500000), random.nextInt(16, 75));
+            return HttpRequest.newBuilder(URI.create(apiUrl))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+    },
+    DELETE("delete") {
+        @Override
+        HttpRequest request(String apiUrl, Fixtures fixtures, SplittableRandom random) {
+            return HttpRequest.newBuilder(URI.create(apiUrl + "/" + encode(fixtures.name(random))))
+                    .DELETE()
+                    .build();
+        }
+    };
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    abstract HttpRequest request(String apiUrl, Fixtures fixtures, SplittableRandom random);
+
+    static Endpoint byName(String key) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint in mix: " + key));
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).GET().build();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
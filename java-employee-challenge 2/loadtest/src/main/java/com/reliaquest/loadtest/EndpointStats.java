@@ -0,0 +1,101 @@
+package com.reliaquest.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcomes of one endpoint during the measured part of the run. Latency is taken from the moment a request was due
+ * to be sent, not when it actually went out, so a stalled client cannot hide queueing delay.
+ */
+class EndpointStats {
+
+    private final Histogram latencyMicros = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(5), 3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    void recordResponse(int status, long latencyNanos) {
+        statuses.computeIfAbsent(status, ignored -> new LongAdder()).increment();
+        record(latencyNanos);
+    }
+
+    /**
+     * A request that never got an HTTP response (connection refused, reset, timeout).
+     */
+    void recordFailure(long latencyNanos) {
+        failures.increment();
+        record(latencyNanos);
+    }
+
+    /**
+     * A request the generator could not send because too many were already in flight.
+     */
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    private void record(long latencyNanos) {
+        long micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        latencyMicros.recordValue(Math.min(micros, latencyMicros.getHighestTrackableValue()));
+    }
+
+    Map<String, Object> summary(double seconds) {
+        long responses = statuses.values().stream().mapToLong(LongAdder::sum).sum();
+        long ok = statuses.entrySet().stream()
+                .filter(entry -> entry.getKey() >= 200 && entry.getKey() < 300)
+                .mapToLong(entry -> entry.getValue().sum())
+                .sum();
+        long tooManyRequests = count(429);
+        long attempted = responses + failures.sum() + dropped.sum();
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", attempted);
+        summary.put("responses", responses);
+        summary.put("successes", ok);
+        summary.put("throughputRps", round(responses / seconds));
+        summary.put("successThroughputRps", round(ok / seconds));
+        summary.put("errorRate", ratio(attempted - ok, attempted));
+        summary.put("rate429", ratio(tooManyRequests, attempted));
+        summary.put("connectionFailures", failures.sum());
+        summary.put("dropped", dropped.sum());
+        Map<String, Long> byStatus = new TreeMap<>();
+        statuses.forEach((status, counter) -> byStatus.put(String.valueOf(status), counter.sum()));
+        summary.put("statusCounts", byStatus);
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("p50", millis(latencyMicros.getValueAtPercentile(50)));
+        latency.put("p90", millis(latencyMicros.getValueAtPercentile(90)));
+        latency.put("p99", millis(latencyMicros.getValueAtPercentile(99)));
+        latency.put("p999", millis(latencyMicros.getValueAtPercentile(99.9)));
+        latency.put("max", millis(latencyMicros.getMaxValue()));
+        latency.put("mean", round(latencyMicros.getMean() / 1000));
+        summary.put("latencyMs", latency);
+        return summary;
+    }
+
+    Histogram latencyMicros() {
+        return latencyMicros;
+    }
+
+    private long count(int status) {
+        LongAdder counter = statuses.get(status);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    private static double ratio(long part, long total) {
+        return total == 0 ? 0 : round((double) part / total);
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
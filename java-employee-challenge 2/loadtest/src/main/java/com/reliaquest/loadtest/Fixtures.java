@@ -0,0 +1,59 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Real employee ids and names for the id lookups, searches and deletes, taken from the mock server once before the
+ * run so the load itself does not depend on them.
+ */
+@Slf4j
+record Fixtures(List<String> ids, List<String> names) {
+
+    private static final String[] SEARCH_FRAGMENTS = {"a", "an", "jo", "son", "mar", "li", "er", "smith"};
+
+    static Fixtures load(HttpClient client, String serverUrl) {
+        try {
+            HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(URI.create(serverUrl)).GET().build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                List<String> ids = new ArrayList<>();
+                List<String> names = new ArrayList<>();
+                for (JsonNode employee :
+                        new ObjectMapper().readTree(response.body()).path("data")) {
+                    ids.add(employee.path("id").asText());
+                    names.add(employee.path("employee_name").asText());
+                }
+                if (!ids.isEmpty()) {
+                    log.info("Loaded {} employee fixtures from {}", ids.size(), serverUrl);
+                    return new Fixtures(ids, names);
+                }
+            }
+            log.warn("Mock server answered {} while loading fixtures, using synthetic ones", response.statusCode());
+        } catch (Exception e) {
+            log.warn("Unable to load fixtures from {}, using synthetic ones: {}", serverUrl, e.getMessage());
+        }
+        return new Fixtures(List.of(UUID.randomUUID().toString()), List.of("Unknown Employee"));
+    }
+
+    String id(SplittableRandom random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    String name(SplittableRandom random) {
+        return names.get(random.nextInt(names.size()));
+    }
+
+    String searchFragment(SplittableRandom random) {
+        return SEARCH_FRAGMENTS[random.nextInt(SEARCH_FRAGMENTS.length)];
+    }
+}
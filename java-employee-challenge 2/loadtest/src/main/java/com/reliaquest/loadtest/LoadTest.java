@@ -0,0 +1,164 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Open-loop load generator for the employee API.
+ * <p>
+ * Requests are scheduled at a fixed arrival rate and sent whether or not earlier ones have completed, so a slow
+ * service shows up as growing latency instead of silently lowering the offered load. The endpoint of each request is
+ * drawn from the configured weighted mix with a seeded random, which makes runs repeatable. By default the mock
+ * server and the API are booted locally first; pass {@code -Ploadtest.boot=false} to drive already running instances.
+ */
+@Slf4j
+public class LoadTest {
+
+    private final LoadTestConfig config;
+    private final HttpClient client;
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+
+    LoadTest(LoadTestConfig config, HttpClient client) {
+        this.config = config;
+        this.client = client;
+        config.mix().keySet().forEach(endpoint -> stats.put(endpoint, new EndpointStats()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        ExecutorService executor =
+                Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+        try (LocalStack ignored = config.boot() ? LocalStack.start(config, client) : null) {
+            Fixtures fixtures = Fixtures.load(client, config.serverUrl());
+            new LoadTest(config, client).run(fixtures);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    void run(Fixtures fixtures) throws IOException, InterruptedException {
+        Endpoint[] wheel = weightedWheel(config.mix());
+        SplittableRandom random = new SplittableRandom(config.seed());
+        Semaphore inFlight = new Semaphore(config.maxInFlight());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+
+        log.info(
+                "Offering {} req/s for {} after {} warm-up, mix {}",
+                config.rate(),
+                config.duration(),
+                config.warmup(),
+                config.mix());
+        ApiResourceSampler resources = ApiResourceSampler.start(client, config.apiUrl(), config.warmup());
+        for (long i = 0; ; i++) {
+            long due = start + i * intervalNanos;
+            if (due >= end) {
+                break;
+            }
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Endpoint endpoint = wheel[random.nextInt(wheel.length)];
+            HttpRequest request = endpoint.request(config.apiUrl(), fixtures, random);
+            EndpointStats endpointStats = due >= measureFrom ? stats.get(endpoint) : null;
+            if (!inFlight.tryAcquire()) {
+                if (endpointStats != null) {
+                    endpointStats.recordDropped();
+                }
+                continue;
+            }
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                inFlight.release();
+                if (endpointStats == null) {
+                    return;
+                }
+                long latency = System.nanoTime() - due;
+                if (error != null) {
+                    endpointStats.recordFailure(latency);
+                } else {
+                    endpointStats.recordResponse(response.statusCode(), latency);
+                }
+            });
+        }
+        // Let the last requests finish before reporting.
+        if (!inFlight.tryAcquire(config.maxInFlight(), 30, TimeUnit.SECONDS)) {
+            log.warn(
+                    "{} requests still in flight after 30s, reporting without them",
+                    config.maxInFlight() - inFlight.availablePermits());
+        }
+        resources.close();
+        write(report(config.duration().toNanos() / 1e9, resources.summary()));
+    }
+
+    private Map<String, Object> report(double seconds, Map<String, Object> apiResources) {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        EndpointStats overall = new EndpointStats();
+        stats.forEach((endpoint, endpointStats) -> endpoints.put(endpoint.key(), endpointStats.summary(seconds)));
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("rate", config.rate());
+        settings.put("durationSeconds", config.duration().toSeconds());
+        settings.put("warmupSeconds", config.warmup().toSeconds());
+        settings.put(
+                "mix",
+                config.mix().entrySet().stream()
+                        .collect(
+                                LinkedHashMap::new,
+                                (map, entry) -> map.put(entry.getKey().key(), entry.getValue()),
+                                Map::putAll));
+        settings.put("employees", config.employees());
+        settings.put("apiArgs", config.apiArgs());
+        settings.put("apiJvmArgs", config.apiJvmArgs());
+        settings.put("serverArgs", config.serverArgs());
+        settings.put("javaVersion", Runtime.version().toString());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("config", settings);
+        report.put("endpoints", endpoints);
+        stats.values().forEach(endpointStats -> overall.latencyMicros().add(endpointStats.latencyMicros()));
+        report.put("overallLatencyMs", overall.summary(seconds).get("latencyMs"));
+        report.put("apiResources", apiResources);
+        return report;
+    }
+
+    private void write(Map<String, Object> report) throws IOException {
+        Files.createDirectories(config.output().getParent());
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(config.output().toFile(), report);
+        log.info("Results written to {}", config.output());
+    }
+
+    private static Endpoint[] weightedWheel(Map<Endpoint, Integer> mix) {
+        return mix.entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Endpoint[]::new);
+    }
+}
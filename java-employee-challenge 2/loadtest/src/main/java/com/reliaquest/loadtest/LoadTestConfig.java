@@ -0,0 +1,83 @@
+package com.reliaquest.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load-test settings, read from {@code loadtest.*} system properties (the Gradle task forwards {@code -Ploadtest.*}).
+ */
+record LoadTestConfig(
+        boolean boot,
+        String apiUrl,
+        String serverUrl,
+        int rate,
+        Duration duration,
+        Duration warmup,
+        Map<Endpoint, Integer> mix,
+        int employees,
+        int maxInFlight,
+        long seed,
+        Path output,
+        String serverClasspath,
+        String apiClasspath,
+        List<String> apiArgs,
+        List<String> apiJvmArgs,
+        List<String> serverArgs) {
+
+    static final String DEFAULT_MIX = "getAllEmployees=1,search=3,getById=2,highestSalary=2,topTen=2,create=0,delete=0";
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Boolean.parseBoolean(property("boot", "true")),
+                property("api.url", "http://localhost:8111"),
+                property("server.url", "http://localhost:8112/api/v1/employee"),
+                Integer.parseInt(property("rate", "1000")),
+                Duration.parse("PT" + property("duration", "60s")),
+                Duration.parse("PT" + property("warmup", "10s")),
+                parseMix(property("mix", DEFAULT_MIX)),
+                Integer.parseInt(property("employees", "1000")),
+                Integer.parseInt(property("maxInFlight", "10000")),
+                Long.parseLong(property("seed", "42")),
+                Path.of(property("output", "results.json")).toAbsolutePath(),
+                property("server.classpath", ""),
+                property("api.classpath", ""),
+                split(property("api.args", "")),
+                split(property("api.jvmArgs", "")),
+                split(property("server.args", "")));
+    }
+
+    /**
+     * @param mix comma-separated {@code endpoint=weight} pairs, e.g. {@code search=3,topTen=1}
+     */
+    static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(Endpoint.byName(pair[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix has no endpoint with a positive weight: " + mix);
+        }
+        return weights;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static List<String> split(String value) {
+        return value.isBlank()
+                ? List.of()
+                : Arrays.stream(value.trim().split("\\s+")).toList();
+    }
+}
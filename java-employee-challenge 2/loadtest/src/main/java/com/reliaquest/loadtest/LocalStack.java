@@ -0,0 +1,125 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The mock server and the API, each started as a child JVM on this machine and stopped again on {@link #close()}.
+ * Their console output goes to {@code server.log} and {@code api.log} next to the results file.
+ */
+@Slf4j
+class LocalStack implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final List<Process> processes = new ArrayList<>();
+
+    static LocalStack start(LoadTestConfig config, HttpClient client) throws IOException, InterruptedException {
+        LocalStack stack = new LocalStack();
+        try {
+            Path logs = config.output().getParent();
+            List<String> serverArgs = new ArrayList<>(List.of(
+                    "--mock.employees.max=" + config.employees(),
+                    "--mock.employees.seeding.mode=parallel",
+                    "--mock.employees.seeding.seed=" + config.seed(),
+                    "--logging.level.com.reliaquest=INFO"));
+            serverArgs.addAll(config.serverArgs());
+            stack.launch(
+                    "server",
+                    config.serverClasspath(),
+                    "com.reliaquest.server.ServerApplication",
+                    List.of(),
+                    serverArgs,
+                    logs);
+            stack.awaitStatus(client, config.serverUrl() + "/" + new UUID(0, 0), "server");
+            List<String> apiArgs = new ArrayList<>(List.of("--logging.level.com.reliaquest=WARN"));
+            apiArgs.addAll(config.apiArgs());
+            stack.launch(
+                    "api",
+                    config.apiClasspath(),
+                    "com.reliaquest.api.ApiApplication",
+                    config.apiJvmArgs(),
+                    apiArgs,
+                    logs);
+            stack.awaitStatus(client, config.apiUrl() + "/actuator/health", "api");
+            return stack;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            stack.close();
+            throw e;
+        }
+    }
+
+    private void launch(
+            String name, String classpath, String mainClass, List<String> jvmArgs, List<String> args, Path logs)
+            throws IOException {
+        if (classpath.isBlank()) {
+            throw new IllegalStateException("No classpath for " + name + "; run through ./gradlew loadtest:loadTest");
+        }
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(classpath);
+        command.add(mainClass);
+        command.addAll(args);
+        Path logFile = logs.resolve(name + ".log");
+        log.info("Starting {} (log: {})", name, logFile);
+        processes.add(new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start());
+    }
+
+    /**
+     * Waits until the application answers HTTP at all; a 404 or 429 still means it is up.
+     */
+    private void awaitStatus(HttpClient client, String url, String name) throws InterruptedException {
+        Instant deadline = Instant.now().plus(STARTUP_TIMEOUT);
+        HttpRequest probe = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(2))
+                .GET()
+                .build();
+        while (Instant.now().isBefore(deadline)) {
+            if (processes.stream().anyMatch(process -> !process.isAlive())) {
+                throw new IllegalStateException(name + " exited during startup, see its log");
+            }
+            try {
+                HttpResponse<Void> response = client.send(probe, HttpResponse.BodyHandlers.discarding());
+                log.info("{} is up ({} answered {})", name, url, response.statusCode());
+                return;
+            } catch (IOException e) {
+                Thread.sleep(500);
+            }
+        }
+        throw new IllegalStateException(name + " did not start within " + STARTUP_TIMEOUT);
+    }
+
+    @Override
+    public void close() {
+        for (Process process : processes) {
+            process.destroy();
+        }
+        for (Process process : processes) {
+            try {
+                if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+        processes.clear();
+    }
+}
@@ -0,0 +1,53 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import com.reliaquest.server.web.TokenBucketRateLimitInterceptor;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/*
+ * rate-limit.mode picks how the mock server throttles:
+ * random (the default) is the original single window shared by every client with a random limit and backoff;
+ * token-bucket gives each client, named by the client-header or its remote address, limit requests per period with
+ * bursts of up to burst; none switches throttling off.
+ * A Clock bean, if one is defined, is the time source of both limiters.
+ */
+@Slf4j
+@Configuration
+public class RateLimitConfiguration implements WebMvcConfigurer {
+
+    private final HandlerInterceptor rateLimitInterceptor;
+
+    public RateLimitConfiguration(
+            ObjectProvider<Clock> clock,
+            @Value("${mock.rate-limit.mode:random}") String mode,
+            @Value("${mock.rate-limit.limit:10}") int limit,
+            @Value("${mock.rate-limit.period:1m}") Duration period,
+            @Value("${mock.rate-limit.burst:10}") int burst,
+            @Value("${mock.rate-limit.client-header:X-Client-Id}") String clientHeader,
+            @Value("${mock.rate-limit.max-clients:10000}") int maxClients) {
+        final Clock time = clock.getIfAvailable(Clock::systemUTC);
+        this.rateLimitInterceptor = switch (mode.toLowerCase()) {
+            case "random" -> new RandomRequestLimitInterceptor(RandomGenerator.getDefault(), time);
+            case "token-bucket" -> new TokenBucketRateLimitInterceptor(
+                    limit, period, burst, clientHeader, maxClients, time);
+            case "none" -> null;
+            default -> throw new IllegalArgumentException("Unknown mock.rate-limit.mode: " + mode);};
+        log.info("Rate limiting mode: {}", mode);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (rateLimitInterceptor != null) {
+            registry.addInterceptor(rateLimitInterceptor);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.web.ResponseDelayInterceptor;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/*
+ * response-delay holds every request before it is handled, to load test clients against a slow upstream; with the
+ * default of 0 nothing is registered.
+ */
+@Configuration
+public class ResponseDelayConfiguration implements WebMvcConfigurer {
+
+    private final Duration responseDelay;
+
+    public ResponseDelayConfiguration(@Value("${mock.response-delay:0ms}") Duration responseDelay) {
+        this.responseDelay = responseDelay;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!responseDelay.isZero()) {
+            registry.addInterceptor(new ResponseDelayInterceptor(responseDelay));
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import com.reliaquest.server.service.EmployeeChangeLog;
+import com.reliaquest.server.service.EmployeeStatistics;
+import com.reliaquest.server.store.ColumnarEmployeeStore;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.IndexedEmployeeStore;
+import com.reliaquest.server.store.JournalingEmployeeStore;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
@@ -16,12 +24,10 @@ import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
-public class ServerConfiguration implements WebMvcConfigurer {
+public class ServerConfiguration {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
@@ -31,10 +37,55 @@ public class ServerConfiguration implements WebMvcConfigurer {
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * This store is modifiable by design for CRUD operations.
+     * store=columnar keeps the roster in primitive columns, for rosters in the millions; see EmployeeStore for the
+     * heap cost of each store. seeding.mode=parallel generates the roster with the ParallelEmployeeSeeder, which is
+     * reproducible for a given seeding.seed; the default faker mode is the original generator.
+     * persistence.enabled journals every create and delete under persistence.directory and restores the roster from
+     * there on the next start instead of seeding a new one.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
+    public EmployeeStore mockEmployees(
+            Faker faker,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.store:indexed}") String store,
+            @Value("${mock.employees.seeding.mode:faker}") String seedingMode,
+            @Value("${mock.employees.seeding.seed:42}") long seed,
+            @Value("${mock.employees.seeding.chunk-size:10000}") int chunkSize,
+            @Value("${mock.employees.persistence.enabled:false}") boolean persistent,
+            @Value("${mock.employees.persistence.directory:data}") Path directory,
+            @Value("${mock.employees.persistence.compaction-interval:5m}") Duration compactionInterval,
+            @Value("${mock.employees.persistence.fsync:false}") boolean fsync) {
+        final Supplier<List<MockEmployee>> seeder = () -> "parallel".equalsIgnoreCase(seedingMode)
+                ? new ParallelEmployeeSeeder(seed, chunkSize, Locale.getDefault()).seed(maxEmployees)
+                : fakeEmployees(faker, maxEmployees);
+        final EmployeeStore employeeStore =
+                "columnar".equalsIgnoreCase(store) ? new ColumnarEmployeeStore() : new IndexedEmployeeStore();
+        if (persistent) {
+            return JournalingEmployeeStore.open(employeeStore, directory, seeder, compactionInterval, fsync);
+        }
+        employeeStore.addAll(seeder.get());
+        return employeeStore;
+    }
+
+    /*
+     * Holds the last changes.capacity creates and deletes for clients syncing their copy of the roster.
+     */
+    @Bean
+    public EmployeeChangeLog employeeChangeLog(@Value("${mock.employees.changes.capacity:10000}") int capacity) {
+        return new EmployeeChangeLog(capacity);
+    }
+
+    /*
+     * Salary, headcount and age statistics kept current on every write; stats.max-top caps the top earners per read.
+     */
+    @Bean
+    public EmployeeStatistics employeeStatistics(
+            EmployeeStore mockEmployees, @Value("${mock.employees.stats.max-top:100}") int maxTop) {
+        return new EmployeeStatistics(mockEmployees::snapshot, maxTop);
+    }
+
+    private static List<MockEmployee> fakeEmployees(Faker faker, int maxEmployees) {
         final var transformer = new JavaObjectTransformer();
         final var schema = Schema.of(
                 Field.field("id", UUID::randomUUID),
@@ -51,9 +102,4 @@ public class ServerConfiguration implements WebMvcConfigurer {
                 .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
                 .collect(Collectors.toCollection(ArrayList::new));
     }
-
-    @Override
-    public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
-    }
 }
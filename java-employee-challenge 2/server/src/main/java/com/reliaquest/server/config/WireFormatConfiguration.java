@@ -0,0 +1,43 @@
+package com.reliaquest.server.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/*
+ * Requests accepting application/x-jackson-smile are answered in Smile, binary JSON with the same data model, and
+ * Smile request bodies are read as well. JSON stays first among the converters, so it is still what a client gets
+ * without an Accept header, with a wildcard or with application/json.
+ * Smile writes each property name once per response and refers back to it afterwards, so the employee_ prefixes of
+ * MockEmployee cost one byte per field instead of the whole name; short string values such as titles are shared the
+ * same way. UUIDs are written as 16 raw bytes.
+ */
+@Configuration
+public class WireFormatConfiguration {
+
+    /**
+     * The mapper Smile responses are written with, also used by the benchmarks to encode and decode rosters the way
+     * the two applications do.
+     */
+    public static ObjectMapper smileObjectMapper(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return objectMapperBuilder
+                .factory(SmileFactory.builder()
+                        .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                        .build())
+                .build();
+    }
+
+    /*
+     * Built from Boot's Jackson2ObjectMapperBuilder, so spring.jackson settings apply to Smile as they do to JSON;
+     * registered as a bean, it takes the place of the default Smile converter behind the JSON one.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return new MappingJackson2SmileHttpMessageConverter(smileObjectMapper(objectMapperBuilder));
+    }
+}
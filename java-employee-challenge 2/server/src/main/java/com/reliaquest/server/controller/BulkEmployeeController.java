@@ -0,0 +1,160 @@
+package com.reliaquest.server.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.reliaquest.server.model.BulkResult;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Bulk variants of create and delete. The request body is NDJSON, one input per line, and the response is NDJSON, one
+ * {@link BulkResult} per non-blank input line in the same order. Every record is validated with the same constraints
+ * as the single-record endpoints; the valid ones are then applied to the store in one write, and an invalid record
+ * never fails the rest of the batch.
+ */
+@RestController
+@RequestMapping("/api/v1/employee/bulk")
+public class BulkEmployeeController {
+
+    private final MockEmployeeService mockEmployeeService;
+    private final Validator validator;
+    private final ObjectReader createReader;
+    private final ObjectReader deleteReader;
+    private final ObjectWriter resultWriter;
+
+    public BulkEmployeeController(
+            MockEmployeeService mockEmployeeService, Validator validator, ObjectMapper objectMapper) {
+        this.mockEmployeeService = mockEmployeeService;
+        this.validator = validator;
+        this.createReader = objectMapper.readerFor(CreateMockEmployeeInput.class);
+        this.deleteReader = objectMapper.readerFor(DeleteMockEmployeeInput.class);
+        this.resultWriter = objectMapper.writerFor(BulkResult.class);
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> createEmployees(InputStream body) throws IOException {
+        final Batch<CreateMockEmployeeInput> batch = read(body, createReader);
+        final List<MockEmployee> created = mockEmployeeService.createAll(batch.valid());
+        return stream(
+                batch.results((line, index) -> BulkResult.of(line, BulkResult.Outcome.CREATED, created.get(index))));
+    }
+
+    @DeleteMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> deleteEmployees(InputStream body) throws IOException {
+        final Batch<DeleteMockEmployeeInput> batch = read(body, deleteReader);
+        final List<DeleteMockEmployeeInput> inputs = batch.valid();
+        final List<Boolean> deleted = mockEmployeeService.deleteAll(inputs);
+        return stream(batch.results((line, index) -> BulkResult.of(
+                line,
+                deleted.get(index) ? BulkResult.Outcome.DELETED : BulkResult.Outcome.NOT_FOUND,
+                inputs.get(index).getName())));
+    }
+
+    private <T> Batch<T> read(InputStream body, ObjectReader reader) throws IOException {
+        final Batch<T> batch = new Batch<>();
+        final BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        int lineNumber = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            final T input;
+            try {
+                input = reader.readValue(line);
+            } catch (JsonProcessingException e) {
+                batch.invalid(lineNumber, List.of("Malformed JSON: " + e.getOriginalMessage()));
+                continue;
+            }
+            if (input == null) {
+                batch.invalid(lineNumber, List.of("Expected a JSON object, got null"));
+                continue;
+            }
+            final List<String> violations = validator.validate(input).stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .toList();
+            if (violations.isEmpty()) {
+                batch.valid(lineNumber, input);
+            } else {
+                batch.invalid(lineNumber, violations);
+            }
+        }
+        return batch;
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(List<BulkResult<?>> results) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(out -> {
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+            for (BulkResult<?> result : results) {
+                writer.write(resultWriter.writeValueAsString(result));
+                writer.write('\n');
+            }
+            writer.flush();
+        });
+    }
+
+    /**
+     * The records of one request in line order, each either a valid input or the errors that made it invalid.
+     */
+    private static final class Batch<T> {
+
+        private final List<Line<T>> records = new ArrayList<>();
+
+        void valid(int line, T input) {
+            records.add(new Line<>(line, input, null));
+        }
+
+        void invalid(int line, List<String> errors) {
+            records.add(new Line<>(line, null, errors));
+        }
+
+        List<T> valid() {
+            return records.stream()
+                    .filter(record -> record.errors() == null)
+                    .map(Line::input)
+                    .toList();
+        }
+
+        /**
+         * @param applied builds the result of a valid record from its line and its index in {@link #valid()}
+         */
+        List<BulkResult<?>> results(BiFunction<Integer, Integer, BulkResult<?>> applied) {
+            final List<BulkResult<?>> results = new ArrayList<>(records.size());
+            int index = 0;
+            for (Line<T> record : records) {
+                results.add(
+                        record.errors() == null
+                                ? applied.apply(record.line(), index++)
+                                : BulkResult.invalid(record.line(), record.errors()));
+            }
+            return results;
+        }
+
+        private record Line<T>(int line, T input, List<String> errors) {}
+    }
+}
@@ -0,0 +1,136 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.EmployeeChangeLog;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Change feed of the roster, so clients can keep a copy current without reloading it.
+ * <p>
+ * {@code GET /changes} without {@code since} returns no changes and the cursor to start from; with {@code since} it
+ * returns the changes after that cursor and the cursor after the last of them. {@code GET /changes/stream} sends the
+ * same changes as Server-Sent Events, one {@code created} or {@code deleted} event per change with the employee as
+ * data and the cursor after it as id, and keeps sending them as they happen. A reconnecting client resumes from
+ * {@code Last-Event-ID}. An expired cursor is answered with 410 Gone, after which the client reloads the roster.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/employee/changes")
+public class EmployeeChangeController implements DisposableBean {
+
+    private final EmployeeChangeLog changeLog;
+    private final long streamTimeout;
+    private final Set<SseEmitter> emitters = ConcurrentHashMap.newKeySet();
+
+    /*
+     * One thread writes to every stream, in log order, so recording a change never waits on a client.
+     */
+    private final ScheduledExecutorService feed = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "change-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public EmployeeChangeController(
+            EmployeeChangeLog changeLog,
+            @Value("${mock.employees.changes.stream-timeout:30m}") Duration streamTimeout,
+            @Value("${mock.employees.changes.heartbeat:15s}") Duration heartbeat) {
+        this.changeLog = changeLog;
+        this.streamTimeout = streamTimeout.toMillis();
+        final long interval = heartbeat.toMillis();
+        feed.scheduleWithFixedDelay(this::sendHeartbeats, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @GetMapping()
+    public ResponseEntity<Response<List<EmployeeChange>>> getChanges(
+            @RequestParam(name = "since", required = false) String since) {
+        if (since == null) {
+            return ResponseEntity.ok(Response.handledWith(List.of(), changeLog.cursor()));
+        }
+        final Optional<List<EmployeeChange>> changes;
+        try {
+            changes = changeLog.changesSince(since);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Response.error("Invalid cursor."));
+        }
+        return changes.map(found -> ResponseEntity.ok(Response.handledWith(
+                        found, found.isEmpty() ? since : changeLog.cursorOf(found.get(found.size() - 1)))))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.GONE).body(Response.error("Cursor expired.")));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(
+            @RequestParam(name = "since", required = false) String since,
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        final String cursor = lastEventId != null ? lastEventId : since != null ? since : changeLog.cursor();
+        final SseEmitter emitter = new SseEmitter(streamTimeout);
+        final Optional<Runnable> subscription;
+        try {
+            subscription = changeLog.subscribe(cursor, change -> feed.execute(() -> send(emitter, change)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (subscription.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.GONE).build();
+        }
+        emitters.add(emitter);
+        final Runnable unsubscribe = () -> {
+            subscription.get().run();
+            emitters.remove(emitter);
+        };
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(ignored -> unsubscribe.run());
+        return ResponseEntity.ok(emitter);
+    }
+
+    @Override
+    public void destroy() {
+        feed.shutdownNow();
+        emitters.forEach(SseEmitter::complete);
+    }
+
+    private void send(SseEmitter emitter, EmployeeChange change) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(changeLog.cursorOf(change))
+                    .name(change.type().name().toLowerCase(Locale.ROOT))
+                    .data(change.employee(), MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping change stream: {}", e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
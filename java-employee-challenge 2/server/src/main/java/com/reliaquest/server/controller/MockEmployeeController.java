@@ -2,13 +2,18 @@ package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeStats;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.EmployeePage;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,26 +22,88 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping("/api/v1/employee")
-@RequiredArgsConstructor
 public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
+    private final int defaultPageSize;
+    private final int maxPageSize;
 
+    public MockEmployeeController(
+            MockEmployeeService mockEmployeeService,
+            @Value("${mock.employees.page.default-size:100}") int defaultPageSize,
+            @Value("${mock.employees.page.max-size:10000}") int maxPageSize) {
+        this.mockEmployeeService = mockEmployeeService;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /*
+     * Without limit or cursor the whole roster is returned, as before. With either, one page in creation order is
+     * returned and nextCursor is set while more pages follow.
+     * Both reads carry the roster version as ETag and are answered with 304 while If-None-Match still matches it.
+     * The tag is the same in JSON and Smile, so the response varies on Accept.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployees(
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            ServletWebRequest request) {
+        if (limit != null && (limit < 1 || limit > maxPageSize)) {
+            return ResponseEntity.badRequest()
+                    .body(Response.error("limit must be between 1 and %d".formatted(maxPageSize)));
+        }
+        varyOnAccept(request);
+        if (request.checkNotModified(mockEmployeeService.getRosterVersion())) {
+            return null;
+        }
+        if (limit == null && cursor == null) {
+            return ResponseEntity.ok(Response.handledWith(mockEmployeeService.getMockEmployees()));
+        }
+        final EmployeePage page;
+        try {
+            page = mockEmployeeService.getMockEmployees(cursor, limit == null ? defaultPageSize : limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Response.error("Invalid cursor."));
+        }
+        return ResponseEntity.ok(Response.handledWith(page.employees(), page.nextCursor()));
+    }
+
+    /*
+     * Maintained on every write, so this is a few hundred bytes however large the roster is, and cheaper to send again
+     * than to validate.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Response<EmployeeStats>> getStats(@RequestParam(name = "top", defaultValue = "10") int top) {
+        try {
+            return ResponseEntity.ok(Response.handledWith(mockEmployeeService.getStats(top)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Response.error(e.getMessage()));
+        }
     }
 
+    /*
+     * Employees never change once created, so the ETag is derived from the employee itself rather than the roster
+     * version: it stays valid while other employees are created and deleted, and a deleted employee answers 404
+     * whatever the client sends. As for the roster, the tag is the same in either wire format.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
-        return mockEmployeeService
-                .findById(uuid)
-                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
-                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    public ResponseEntity<Response<MockEmployee>> getEmployee(
+            @PathVariable("id") UUID uuid, ServletWebRequest request) {
+        final Optional<MockEmployee> employee = mockEmployeeService.findById(uuid);
+        if (employee.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled());
+        }
+        varyOnAccept(request);
+        if (request.checkNotModified(entityTag(employee.get()))) {
+            return null;
+        }
+        return ResponseEntity.ok(Response.handledWith(employee.get()));
     }
 
     @PostMapping()
@@ -48,4 +115,22 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    /**
+     * The same URL is answered in JSON or Smile depending on Accept, under the same ETag. Set before the tag is
+     * checked, so that 304s carry it as well and a shared cache never answers one format with the other's copy.
+     */
+    private static void varyOnAccept(ServletWebRequest request) {
+        final HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+    }
+
+    /**
+     * The same for every read of the same employee, across restarts as well, since it only depends on its fields.
+     */
+    private static String entityTag(MockEmployee employee) {
+        return "%s-%08x".formatted(employee.getId(), employee.hashCode());
+    }
 }
@@ -0,0 +1,28 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * Outcome of one record of a bulk request, written as one NDJSON line.
+ *
+ * @param line the 1-based line of the request body the record was read from
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkResult<T>(int line, Outcome outcome, T data, List<String> errors) {
+
+    public static <T> BulkResult<T> of(int line, Outcome outcome, T data) {
+        return new BulkResult<>(line, outcome, data, null);
+    }
+
+    public static <T> BulkResult<T> invalid(int line, List<String> errors) {
+        return new BulkResult<>(line, Outcome.INVALID, null, errors);
+    }
+
+    public enum Outcome {
+        CREATED,
+        DELETED,
+        NOT_FOUND,
+        INVALID
+    }
+}
@@ -0,0 +1,15 @@
+package com.reliaquest.server.model;
+
+/**
+ * One create or delete in the roster's change log.
+ *
+ * @param version position in the log, one higher than the change before it
+ * @param employee the employee as created, or as it was when it was deleted
+ */
+public record EmployeeChange(long version, Type type, MockEmployee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -0,0 +1,19 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregate view of the roster.
+ *
+ * @param maxSalary {@code null} if no employee has a salary
+ * @param minSalary {@code null} if no employee has a salary
+ * @param topEarners highest salaries first, ties in id order
+ * @param ageDistribution headcount per age decade ({@code "20-29"}), youngest first, then {@code "unknown"}
+ */
+public record EmployeeStats(
+        int headcount,
+        Integer maxSalary,
+        Integer minSalary,
+        List<MockEmployee> topEarners,
+        Map<String, Long> ageDistribution) {}
@@ -0,0 +1,130 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+
+/**
+ * Bounded, in-memory log of the roster's creates and deletes, numbered by version.
+ * <p>
+ * Clients follow the log through opaque cursors, each naming a version of this log. The last {@code capacity}
+ * changes are retained; a cursor older than that, or one issued before the server restarted, is expired, and its
+ * holder has to reload the roster before following the log again.
+ * <p>
+ * Writers record a change while holding this log's monitor around the store write, so the log order is the order in
+ * which the store applied the writes. Listeners are called under the monitor as well and must only hand the change
+ * off.
+ */
+public class EmployeeChangeLog {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final long epoch = RandomGenerator.getDefault().nextLong();
+    private final EmployeeChange[] changes;
+    private final List<Consumer<EmployeeChange>> listeners = new ArrayList<>();
+
+    private long version;
+
+    public EmployeeChangeLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Change log capacity must be positive: " + capacity);
+        }
+        this.changes = new EmployeeChange[capacity];
+    }
+
+    public synchronized void created(Collection<MockEmployee> employees) {
+        employees.forEach(employee -> append(EmployeeChange.Type.CREATED, employee));
+    }
+
+    public synchronized void deleted(Collection<MockEmployee> employees) {
+        employees.forEach(employee -> append(EmployeeChange.Type.DELETED, employee));
+    }
+
+    /**
+     * @return a cursor for the current version, from which only later changes are followed
+     */
+    public synchronized String cursor() {
+        return encode(version);
+    }
+
+    public String cursorOf(EmployeeChange change) {
+        return encode(change.version());
+    }
+
+    /**
+     * @return the changes after {@code cursor} in version order, or empty if the cursor has expired
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public synchronized Optional<List<EmployeeChange>> changesSince(String cursor) {
+        final long since = decode(cursor);
+        if (since < 0) {
+            return Optional.empty();
+        }
+        final List<EmployeeChange> found = new ArrayList<>((int) (version - since));
+        for (long next = since + 1; next <= version; next++) {
+            found.add(changes[slot(next)]);
+        }
+        return Optional.of(found);
+    }
+
+    /**
+     * Delivers the changes after {@code cursor} to {@code listener} and then every change as it is recorded, with no
+     * gap or overlap between the two.
+     *
+     * @return a handle that ends the subscription, or empty if the cursor has expired
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public synchronized Optional<Runnable> subscribe(String cursor, Consumer<EmployeeChange> listener) {
+        final Optional<List<EmployeeChange>> backlog = changesSince(cursor);
+        if (backlog.isEmpty()) {
+            return Optional.empty();
+        }
+        backlog.get().forEach(listener);
+        listeners.add(listener);
+        return Optional.of(() -> {
+            synchronized (this) {
+                listeners.remove(listener);
+            }
+        });
+    }
+
+    private void append(EmployeeChange.Type type, MockEmployee employee) {
+        final EmployeeChange change = new EmployeeChange(++version, type, employee);
+        changes[slot(change.version())] = change;
+        listeners.forEach(listener -> listener.accept(change));
+    }
+
+    private int slot(long changeVersion) {
+        return (int) (changeVersion % changes.length);
+    }
+
+    private String encode(long changeVersion) {
+        return ENCODER.encodeToString(ByteBuffer.allocate(2 * Long.BYTES)
+                .putLong(epoch)
+                .putLong(changeVersion)
+                .array());
+    }
+
+    /**
+     * @return the version the cursor names, or {@code -1} if it belongs to another log or has fallen out of this one
+     */
+    private long decode(String cursor) {
+        final byte[] bytes = DECODER.decode(cursor);
+        if (bytes.length != 2 * Long.BYTES) {
+            throw new IllegalArgumentException("Malformed change cursor: " + cursor);
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        final long cursorEpoch = buffer.getLong();
+        final long since = buffer.getLong();
+        final long oldest = Math.max(0, version - changes.length);
+        return cursorEpoch == epoch && since >= oldest && since <= version ? since : -1;
+    }
+}
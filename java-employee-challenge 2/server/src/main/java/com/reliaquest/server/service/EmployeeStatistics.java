@@ -0,0 +1,172 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeeStats;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * Roster statistics kept current on every create and delete, so reading them costs no pass over the roster.
+ * <p>
+ * Headcount and the age distribution are plain counters. For salaries only the highest and the lowest earners are
+ * retained, in two bounded rankings; once deletes have drained a ranking below what a read needs it is rebuilt from
+ * one scan of the roster, which happens at most once per {@code maxTop} deletes of a retained employee. The roster
+ * is therefore never copied or indexed by salary, so the statistics cost next to nothing on top of any store.
+ * <p>
+ * {@link MockEmployeeService} reports its writes under the change log's monitor; reads and writes synchronise on this
+ * object.
+ */
+public class EmployeeStatistics {
+
+    private static final int DECADES = 13;
+    private static final Comparator<MockEmployee> HIGHEST_SALARY_FIRST =
+            Comparator.comparing(MockEmployee::getSalary).reversed().thenComparing(MockEmployee::getId);
+    private static final Comparator<MockEmployee> LOWEST_SALARY_FIRST =
+            Comparator.comparing(MockEmployee::getSalary).thenComparing(MockEmployee::getId);
+
+    private final Supplier<List<MockEmployee>> roster;
+    private final int maxTop;
+    private final Ranking highest;
+    private final Ranking lowest;
+    private final long[] byAgeDecade = new long[DECADES];
+    private long withoutAge;
+    private int headcount;
+    private int salaried;
+
+    /**
+     * @param roster a full read of the roster, for the initial counts and for rebuilding a drained ranking
+     * @param maxTop the most top earners a read may ask for
+     */
+    public EmployeeStatistics(Supplier<List<MockEmployee>> roster, int maxTop) {
+        this.roster = roster;
+        this.maxTop = maxTop;
+        this.highest = new Ranking(HIGHEST_SALARY_FIRST, 2 * maxTop);
+        this.lowest = new Ranking(LOWEST_SALARY_FIRST, 2 * maxTop);
+        added(roster.get());
+    }
+
+    public synchronized void added(Collection<MockEmployee> employees) {
+        for (MockEmployee employee : employees) {
+            headcount++;
+            countAge(employee, 1);
+            if (employee.getSalary() != null) {
+                salaried++;
+                highest.offer(employee, salaried);
+                lowest.offer(employee, salaried);
+            }
+        }
+    }
+
+    public synchronized void removed(Collection<MockEmployee> employees) {
+        for (MockEmployee employee : employees) {
+            headcount--;
+            countAge(employee, -1);
+            if (employee.getSalary() != null) {
+                salaried--;
+                highest.remove(employee);
+                lowest.remove(employee);
+            }
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code top} is negative or above {@code maxTop}
+     */
+    public synchronized EmployeeStats read(int top) {
+        if (top < 0 || top > maxTop) {
+            throw new IllegalArgumentException("top must be between 0 and %d".formatted(maxTop));
+        }
+        final List<MockEmployee> topEarners = highest.first(Math.max(top, 1));
+        final List<MockEmployee> bottomEarner = lowest.first(1);
+        return new EmployeeStats(
+                headcount,
+                topEarners.isEmpty() ? null : topEarners.get(0).getSalary(),
+                bottomEarner.isEmpty() ? null : bottomEarner.get(0).getSalary(),
+                List.copyOf(topEarners.subList(0, Math.min(top, topEarners.size()))),
+                ageDistribution());
+    }
+
+    private void countAge(MockEmployee employee, int delta) {
+        if (employee.getAge() == null || employee.getAge() < 0) {
+            withoutAge += delta;
+        } else {
+            byAgeDecade[Math.min(employee.getAge() / 10, DECADES - 1)] += delta;
+        }
+    }
+
+    private Map<String, Long> ageDistribution() {
+        final Map<String, Long> distribution = new LinkedHashMap<>();
+        for (int decade = 0; decade < DECADES; decade++) {
+            if (byAgeDecade[decade] != 0) {
+                final String label = decade == DECADES - 1
+                        ? "%d+".formatted(decade * 10)
+                        : "%d-%d".formatted(decade * 10, decade * 10 + 9);
+                distribution.put(label, byAgeDecade[decade]);
+            }
+        }
+        if (withoutAge != 0) {
+            distribution.put("unknown", withoutAge);
+        }
+        return distribution;
+    }
+
+    /**
+     * The first salaried employees in some order, up to {@code capacity}. Always a prefix of the whole roster in that
+     * order: an employee is only taken in if it ranks above the last retained one, or if every salaried employee is
+     * retained.
+     */
+    private final class Ranking {
+
+        private final Comparator<MockEmployee> order;
+        private final int capacity;
+        private final TreeSet<MockEmployee> retained;
+
+        Ranking(Comparator<MockEmployee> order, int capacity) {
+            this.order = order;
+            this.capacity = capacity;
+            this.retained = new TreeSet<>(order);
+        }
+
+        void offer(MockEmployee employee, int salariedAfter) {
+            if (retained.size() == salariedAfter - 1
+                    || (!retained.isEmpty() && order.compare(employee, retained.last()) < 0)) {
+                retained.add(employee);
+                if (retained.size() > capacity) {
+                    retained.pollLast();
+                }
+            }
+        }
+
+        void remove(MockEmployee employee) {
+            retained.remove(employee);
+        }
+
+        List<MockEmployee> first(int count) {
+            if (retained.size() < Math.min(count, salaried)) {
+                rebuild();
+            }
+            return retained.stream().limit(count).toList();
+        }
+
+        /*
+         * The store may already reflect a write whose report is still waiting for this object's monitor; that report
+         * then finds the employee added or removed already, which leaves the ranking unchanged.
+         */
+        private void rebuild() {
+            retained.clear();
+            for (MockEmployee employee : roster.get()) {
+                if (employee.getSalary() != null) {
+                    retained.add(employee);
+                    if (retained.size() > capacity) {
+                        retained.pollLast();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -3,12 +3,13 @@ package com.reliaquest.server.service;
 import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeStats;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.EmployeePage;
+import com.reliaquest.server.store.EmployeeStore;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,14 +23,41 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final EmployeeStore mockEmployees;
+
+    /*
+     * Every write holds the change log's monitor around the store write, so changes are logged in store order.
+     */
+    private final EmployeeChangeLog changeLog;
+
+    private final EmployeeStatistics statistics;
+
+    /**
+     * Changes with every create and delete, and with every restart, so it can serve as a strong ETag of roster reads.
+     * Read it before the data it validates, so a write in between yields a stale tag (a wasted 200) rather than a
+     * wrong 304.
+     */
+    public String getRosterVersion() {
+        return changeLog.cursor();
+    }
+
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployees.snapshot();
+    }
+
+    public EmployeePage getMockEmployees(String cursor, int limit) {
+        return mockEmployees.page(cursor, limit);
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code top} is out of range
+     */
+    public EmployeeStats getStats(int top) {
+        return statistics.read(top);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployees.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -37,22 +65,65 @@ public class MockEmployeeService {
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        synchronized (changeLog) {
+            mockEmployees.add(mockEmployee);
+            changeLog.created(List.of(mockEmployee));
+            statistics.added(List.of(mockEmployee));
+        }
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
-    public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+    /**
+     * Creates all employees in one write to the store.
+     */
+    public List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final List<MockEmployee> created = inputs.stream()
+                .map(input -> MockEmployee.from(
+                        ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                                faker.twitter().userName().toLowerCase()),
+                        input))
+                .toList();
+        synchronized (changeLog) {
+            mockEmployees.addAll(created);
+            changeLog.created(created);
+            statistics.added(created);
         }
+        log.debug("Added {} employees", created.size());
+        return created;
+    }
 
-        return false;
+    /**
+     * Deletes the oldest employee of each name in one write to the store.
+     *
+     * @return for each input, whether an employee was deleted
+     */
+    public List<Boolean> deleteAll(@NonNull List<DeleteMockEmployeeInput> inputs) {
+        final List<Optional<MockEmployee>> removed;
+        synchronized (changeLog) {
+            removed = mockEmployees.removeFirstByNames(
+                    inputs.stream().map(DeleteMockEmployeeInput::getName).toList());
+            final List<MockEmployee> deleted =
+                    removed.stream().flatMap(Optional::stream).toList();
+            changeLog.deleted(deleted);
+            statistics.removed(deleted);
+        }
+        final List<Boolean> deleted = removed.stream().map(Optional::isPresent).toList();
+        log.debug(
+                "Removed {} of {} employees",
+                deleted.stream().filter(Boolean::booleanValue).count(),
+                inputs.size());
+        return deleted;
+    }
+
+    public boolean delete(@NonNull DeleteMockEmployeeInput input) {
+        final Optional<MockEmployee> mockEmployee;
+        synchronized (changeLog) {
+            mockEmployee = mockEmployees.removeFirstByName(input.getName());
+            changeLog.deleted(mockEmployee.stream().toList());
+            statistics.removed(mockEmployee.stream().toList());
+        }
+        mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return mockEmployee.isPresent();
     }
 }
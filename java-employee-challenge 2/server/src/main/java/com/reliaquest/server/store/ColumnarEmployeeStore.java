@@ -0,0 +1,453 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+import lombok.NonNull;
+
+/**
+ * {@link EmployeeStore} keeping the roster in parallel primitive columns instead of one object per employee.
+ * <p>
+ * Every employee is a row: its UUID as two {@code long}s, salary and age as {@code int}s, its title as an index into a
+ * dictionary (datafaker job titles repeat heavily), and name and email as plain strings. {@link MockEmployee} objects
+ * are only materialised when a caller reads them, which for the roster endpoint means while it is being serialised.
+ * Ids and normalised names are looked up through open-addressing tables of row numbers; rows with the same name are
+ * chained oldest first, so a delete by name removes the head of the chain.
+ * <p>
+ * Rows are append-only. A delete marks the row as deleted and unlinks it from the indexes, but its columns stay until
+ * the server restarts, which keeps row numbers (and so page cursors) stable. All access goes through a
+ * {@link StampedLock}; a snapshot only captures the column arrays, the row count and the deleted rows under the read
+ * lock, so materialising and serialising it never blocks a writer.
+ */
+public class ColumnarEmployeeStore implements EmployeeStore {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int NO_ROW = -1;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+
+    private final StampedLock lock = new StampedLock();
+    private final Map<String, Integer> titleCodes = new HashMap<>();
+
+    private long[] idMost = new long[INITIAL_CAPACITY];
+    private long[] idLeast = new long[INITIAL_CAPACITY];
+    private int[] salaries = new int[INITIAL_CAPACITY];
+    private int[] ages = new int[INITIAL_CAPACITY];
+    private int[] titles = new int[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private String[] emails = new String[INITIAL_CAPACITY];
+    private int[] nextSameName = new int[INITIAL_CAPACITY];
+    private String[] titleDictionary = new String[64];
+    private final BitSet deleted = new BitSet();
+    private int rows;
+    private int live;
+    private long version;
+
+    // Open-addressing tables, capacity a power of two and at most half full.
+    private int[] idSlots = emptySlots(2 * INITIAL_CAPACITY);
+    private int usedIdSlots;
+    private int[] nameSlots = emptySlots(2 * INITIAL_CAPACITY);
+    private int[] nameSlotHashes = new int[2 * INITIAL_CAPACITY];
+    private int[] nameHeads = new int[2 * INITIAL_CAPACITY];
+    private int[] nameTails = new int[2 * INITIAL_CAPACITY];
+    private int usedNameSlots;
+
+    private volatile Snapshot snapshot = new Snapshot(-1, List.of());
+
+    public ColumnarEmployeeStore() {}
+
+    public ColumnarEmployeeStore(@NonNull Collection<MockEmployee> employees) {
+        addAll(employees);
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        long stamp = lock.readLock();
+        try {
+            int row = rowOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            return row == NO_ROW ? Optional.empty() : Optional.of(columns().employee(row));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> findFirstByName(@NonNull String name) {
+        long stamp = lock.readLock();
+        try {
+            int slot = nameSlotOf(normalise(name));
+            return slot == NO_ROW || nameHeads[slot] == NO_ROW
+                    ? Optional.empty()
+                    : Optional.of(columns().employee(nameHeads[slot]));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void add(@NonNull MockEmployee employee) {
+        addAll(List.of(employee));
+    }
+
+    @Override
+    public void addAll(@NonNull Collection<MockEmployee> employees) {
+        long stamp = lock.writeLock();
+        try {
+            for (MockEmployee employee : employees) {
+                insert(employee);
+            }
+        } finally {
+            version++;
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> removeFirstByName(@NonNull String name) {
+        return removeFirstByNames(List.of(name)).get(0);
+    }
+
+    @Override
+    public List<Optional<MockEmployee>> removeFirstByNames(@NonNull List<String> names) {
+        List<Optional<MockEmployee>> removed = new ArrayList<>(names.size());
+        long stamp = lock.writeLock();
+        try {
+            for (String name : names) {
+                removed.add(remove(normalise(name)));
+            }
+        } finally {
+            version++;
+            lock.unlockWrite(stamp);
+        }
+        return removed;
+    }
+
+    private Optional<MockEmployee> remove(String key) {
+        int slot = nameSlotOf(key);
+        if (slot == NO_ROW || nameHeads[slot] == NO_ROW) {
+            return Optional.empty();
+        }
+        int row = nameHeads[slot];
+        nameHeads[slot] = nextSameName[row];
+        if (nameHeads[slot] == NO_ROW) {
+            nameTails[slot] = NO_ROW;
+        }
+        deleted.set(row);
+        live--;
+        return Optional.of(columns().employee(row));
+    }
+
+    @Override
+    public List<MockEmployee> snapshot() {
+        long stamp = lock.readLock();
+        try {
+            Snapshot cached = snapshot;
+            if (cached.version() == version) {
+                return cached.employees();
+            }
+            BitSet deletedRows = deleted.isEmpty() ? null : (BitSet) deleted.clone();
+            Snapshot fresh = new Snapshot(version, new RosterView(columns(), live, deletedRows));
+            // Concurrent readers may both publish a view of the same version; either one is fine.
+            snapshot = fresh;
+            return fresh.employees();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public EmployeePage page(String cursor, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page limit must be positive: " + limit);
+        }
+        long start = cursor == null ? 0 : EmployeeCursor.decode(cursor) + 1;
+        long stamp = lock.readLock();
+        try {
+            Columns columns = columns();
+            List<MockEmployee> employees = new ArrayList<>(Math.min(limit, 1024));
+            int row = start >= rows ? rows : deleted.nextClearBit((int) Math.max(0, start));
+            int last = NO_ROW;
+            while (row < rows && employees.size() < limit) {
+                employees.add(columns.employee(row));
+                last = row;
+                row = deleted.nextClearBit(row + 1);
+            }
+            return new EmployeePage(List.copyOf(employees), row < rows ? EmployeeCursor.encode(last) : null);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return live;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void insert(MockEmployee employee) {
+        UUID id = employee.getId();
+        if (id == null) {
+            throw new IllegalArgumentException("Employee has no id: " + employee);
+        }
+        long most = id.getMostSignificantBits();
+        long least = id.getLeastSignificantBits();
+        if (rowOf(most, least) != NO_ROW) {
+            throw new IllegalArgumentException("Duplicate employee id: " + id);
+        }
+        if (rows == salaries.length) {
+            growColumns();
+        }
+        int row = rows++;
+        idMost[row] = most;
+        idLeast[row] = least;
+        salaries[row] = employee.getSalary() == null ? NULL_INT : employee.getSalary();
+        ages[row] = employee.getAge() == null ? NULL_INT : employee.getAge();
+        titles[row] = titleCode(employee.getTitle());
+        names[row] = employee.getName();
+        emails[row] = employee.getEmail();
+        nextSameName[row] = NO_ROW;
+        live++;
+
+        if (2 * (usedIdSlots + 1) > idSlots.length) {
+            // Deleted rows are purged on rebuild; only grow if live rows alone fill a quarter of the table.
+            idSlots = rebuildIdSlots(4 * live > idSlots.length ? 2 * idSlots.length : idSlots.length);
+            usedIdSlots = live;
+        } else {
+            placeId(idSlots, row);
+            usedIdSlots++;
+        }
+        if (employee.getName() != null) {
+            if (2 * (usedNameSlots + 1) > nameSlots.length) {
+                rebuildNameSlots(2 * nameSlots.length);
+            } else {
+                linkName(row);
+            }
+        }
+    }
+
+    private int titleCode(String title) {
+        if (title == null) {
+            return NO_ROW;
+        }
+        Integer code = titleCodes.get(title);
+        if (code == null) {
+            code = titleCodes.size();
+            if (code == titleDictionary.length) {
+                titleDictionary = Arrays.copyOf(titleDictionary, 2 * code);
+            }
+            titleDictionary[code] = title;
+            titleCodes.put(title, code);
+        }
+        return code;
+    }
+
+    /**
+     * Replaces (rather than resizes in place) every column, so snapshots keep reading the arrays they captured.
+     */
+    private void growColumns() {
+        int capacity = 2 * salaries.length;
+        idMost = Arrays.copyOf(idMost, capacity);
+        idLeast = Arrays.copyOf(idLeast, capacity);
+        salaries = Arrays.copyOf(salaries, capacity);
+        ages = Arrays.copyOf(ages, capacity);
+        titles = Arrays.copyOf(titles, capacity);
+        names = Arrays.copyOf(names, capacity);
+        emails = Arrays.copyOf(emails, capacity);
+        nextSameName = Arrays.copyOf(nextSameName, capacity);
+    }
+
+    private int rowOf(long most, long least) {
+        int mask = idSlots.length - 1;
+        for (int slot = idHash(most, least) & mask; idSlots[slot] != NO_ROW; slot = (slot + 1) & mask) {
+            int row = idSlots[slot];
+            if (idMost[row] == most && idLeast[row] == least && !deleted.get(row)) {
+                return row;
+            }
+        }
+        return NO_ROW;
+    }
+
+    private void placeId(int[] slots, int row) {
+        int mask = slots.length - 1;
+        int slot = idHash(idMost[row], idLeast[row]) & mask;
+        while (slots[slot] != NO_ROW) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = row;
+    }
+
+    /**
+     * Deleted rows are dropped from the id table whenever it is rebuilt.
+     */
+    private int[] rebuildIdSlots(int capacity) {
+        int[] slots = emptySlots(capacity);
+        for (int row = deleted.nextClearBit(0); row < rows; row = deleted.nextClearBit(row + 1)) {
+            placeId(slots, row);
+        }
+        return slots;
+    }
+
+    /**
+     * @return the name table slot holding {@code key}, or {@link #NO_ROW}. A slot keeps the first row ever stored
+     *     under its name as its key even once that row is deleted.
+     */
+    private int nameSlotOf(String key) {
+        int hash = key.hashCode();
+        int mask = nameSlots.length - 1;
+        for (int slot = spread(hash) & mask; nameSlots[slot] != NO_ROW; slot = (slot + 1) & mask) {
+            if (nameSlotHashes[slot] == hash
+                    && normalise(names[nameSlots[slot]]).equals(key)) {
+                return slot;
+            }
+        }
+        return NO_ROW;
+    }
+
+    private void linkName(int row) {
+        String key = normalise(names[row]);
+        int slot = nameSlotOf(key);
+        if (slot == NO_ROW) {
+            int hash = key.hashCode();
+            int mask = nameSlots.length - 1;
+            slot = spread(hash) & mask;
+            while (nameSlots[slot] != NO_ROW) {
+                slot = (slot + 1) & mask;
+            }
+            nameSlots[slot] = row;
+            nameSlotHashes[slot] = hash;
+            nameHeads[slot] = NO_ROW;
+            usedNameSlots++;
+        }
+        if (nameHeads[slot] == NO_ROW) {
+            nameHeads[slot] = row;
+        } else {
+            nextSameName[nameTails[slot]] = row;
+        }
+        nameTails[slot] = row;
+    }
+
+    /**
+     * Re-links the live rows in row order, which also drops names whose employees have all been deleted.
+     */
+    private void rebuildNameSlots(int capacity) {
+        nameSlots = emptySlots(capacity);
+        nameSlotHashes = new int[capacity];
+        nameHeads = new int[capacity];
+        nameTails = new int[capacity];
+        usedNameSlots = 0;
+        for (int row = deleted.nextClearBit(0); row < rows; row = deleted.nextClearBit(row + 1)) {
+            if (names[row] != null) {
+                nextSameName[row] = NO_ROW;
+                linkName(row);
+            }
+        }
+    }
+
+    private Columns columns() {
+        return new Columns(rows, idMost, idLeast, salaries, ages, titles, names, emails, titleDictionary);
+    }
+
+    private static int idHash(long most, long least) {
+        long hash = (most ^ least) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int[] emptySlots(int capacity) {
+        int[] slots = new int[capacity];
+        Arrays.fill(slots, NO_ROW);
+        return slots;
+    }
+
+    private static String normalise(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The column arrays as of one moment. Rows below {@code rows} are never written again, so a captured set of
+     * columns can be read without the lock.
+     */
+    private record Columns(
+            int rows,
+            long[] idMost,
+            long[] idLeast,
+            int[] salaries,
+            int[] ages,
+            int[] titles,
+            String[] names,
+            String[] emails,
+            String[] titleDictionary) {
+
+        MockEmployee employee(int row) {
+            return MockEmployee.builder()
+                    .id(new UUID(idMost[row], idLeast[row]))
+                    .name(names[row])
+                    .salary(salaries[row] == NULL_INT ? null : salaries[row])
+                    .age(ages[row] == NULL_INT ? null : ages[row])
+                    .title(titles[row] == NO_ROW ? null : titleDictionary[titles[row]])
+                    .email(emails[row])
+                    .build();
+        }
+    }
+
+    /**
+     * Live rows of a set of columns, materialised one {@link MockEmployee} per {@link #get(int)}.
+     */
+    private static final class RosterView extends AbstractList<MockEmployee> implements RandomAccess {
+
+        private final Columns columns;
+        private final int size;
+        private final BitSet deleted;
+        private int[] liveRows;
+
+        RosterView(Columns columns, int size, BitSet deleted) {
+            this.columns = columns;
+            this.size = size;
+            this.deleted = deleted;
+        }
+
+        @Override
+        public MockEmployee get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return columns.employee(deleted == null ? index : liveRows()[index]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        private synchronized int[] liveRows() {
+            if (liveRows == null) {
+                int[] rows = new int[size];
+                int index = 0;
+                for (int row = deleted.nextClearBit(0); index < size; row = deleted.nextClearBit(row + 1)) {
+                    rows[index++] = row;
+                }
+                liveRows = rows;
+            }
+            return liveRows;
+        }
+    }
+
+    private record Snapshot(long version, List<MockEmployee> employees) {}
+}
@@ -0,0 +1,32 @@
+package com.reliaquest.server.store;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Opaque page cursor: the URL-safe Base64 form of the insertion sequence number of the last employee on the previous
+ * page. Sequence numbers are never reused, so a cursor stays valid across creates and deletes; employees created
+ * after it was issued show up on later pages, deleted ones simply do not.
+ */
+final class EmployeeCursor {
+
+    private EmployeeCursor() {}
+
+    static String encode(long sequence) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(
+                        ByteBuffer.allocate(Long.BYTES).putLong(sequence).array());
+    }
+
+    /**
+     * @throws IllegalArgumentException if the cursor was not issued by {@link #encode(long)}
+     */
+    static long decode(String cursor) {
+        byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+        if (bytes.length != Long.BYTES) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return ByteBuffer.wrap(bytes).getLong();
+    }
+}
@@ -0,0 +1,11 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+
+/**
+ * One page of the roster in creation order.
+ *
+ * @param nextCursor where the following page starts, or {@code null} if this is the last page
+ */
+public record EmployeePage(List<MockEmployee> employees, String nextCursor) {}
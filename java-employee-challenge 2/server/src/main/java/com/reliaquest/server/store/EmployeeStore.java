@@ -0,0 +1,70 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.NonNull;
+
+/**
+ * The mock server's employee roster. Implementations are thread-safe, keep employees in creation order and resolve a
+ * delete by name to the oldest employee with that name (ignoring case).
+ * <p>
+ * Approximate heap per employee, on a 64-bit JVM with compressed oops and datafaker-sized strings:
+ * <ul>
+ *   <li>{@link IndexedEmployeeStore} (object per employee plus three concurrent indexes): about 550 bytes.
+ *   <li>{@link ColumnarEmployeeStore} (primitive columns, dictionary-encoded titles): about 190 bytes, most of it
+ *       the name and email strings.
+ * </ul>
+ * These are estimates from object layout; check them against a heap histogram ({@code jcmd <pid> GC.class_histogram})
+ * of a seeded server when it matters.
+ */
+public interface EmployeeStore {
+
+    Optional<MockEmployee> findById(@NonNull UUID id);
+
+    Optional<MockEmployee> findFirstByName(@NonNull String name);
+
+    /**
+     * @throws IllegalArgumentException if the employee has no id or an employee with the same id is already stored
+     */
+    void add(@NonNull MockEmployee employee);
+
+    /**
+     * Adds the employees in order as one write.
+     *
+     * @throws IllegalArgumentException if an employee has no id or its id is already stored; the employees before it
+     *     stay added
+     */
+    void addAll(@NonNull Collection<MockEmployee> employees);
+
+    /**
+     * Removes the oldest employee whose name matches ignoring case.
+     */
+    Optional<MockEmployee> removeFirstByName(@NonNull String name);
+
+    /**
+     * Removes, for each name in order, the oldest employee with that name, as one write. A name listed twice removes
+     * two employees.
+     *
+     * @return the removed employee for each name, in the order of {@code names}
+     */
+    List<Optional<MockEmployee>> removeFirstByNames(@NonNull List<String> names);
+
+    /**
+     * @return an unmodifiable, consistent view of the roster in creation order
+     */
+    List<MockEmployee> snapshot();
+
+    /**
+     * Reads up to {@code limit} employees in creation order, starting after the given cursor. Walking every page is
+     * not one atomic snapshot, but no surviving employee is skipped or seen twice.
+     *
+     * @param cursor the {@link EmployeePage#nextCursor()} of the previous page, or {@code null} for the first page
+     * @throws IllegalArgumentException if the cursor is malformed or the limit is not positive
+     */
+    EmployeePage page(String cursor, int limit);
+
+    int size();
+}
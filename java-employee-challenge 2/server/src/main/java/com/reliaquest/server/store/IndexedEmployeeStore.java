@@ -0,0 +1,205 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.StampedLock;
+import lombok.NonNull;
+
+/**
+ * {@link EmployeeStore} holding one {@link MockEmployee} object per employee.
+ * <p>
+ * Employees are indexed by id and by normalised (lower-cased) name, so lookups and deletes do not scan the roster.
+ * Each employee also gets an insertion sequence number, which keeps the roster in creation order and decides which
+ * employee a delete by name removes when several share a name: the oldest one, as the list-based store did.
+ * <p>
+ * Writers are serialised by a {@link StampedLock}; single-record reads go straight to the concurrent indexes. A read
+ * of the whole roster takes an optimistic stamp, copies it and validates the stamp, so it never blocks a writer and
+ * only ever returns a state that existed between two writes. The copy is cached until the next write.
+ */
+public class IndexedEmployeeStore implements EmployeeStore {
+
+    private static final int OPTIMISTIC_ATTEMPTS = 3;
+
+    private final StampedLock lock = new StampedLock();
+    private final Map<UUID, Long> sequenceById = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, MockEmployee> bySequence = new ConcurrentSkipListMap<>();
+    private final Map<String, NavigableSet<Long>> sequencesByName = new ConcurrentHashMap<>();
+
+    private long nextSequence;
+    private long version;
+    private volatile Snapshot snapshot = new Snapshot(0, List.of());
+
+    public IndexedEmployeeStore() {}
+
+    public IndexedEmployeeStore(@NonNull Collection<MockEmployee> employees) {
+        addAll(employees);
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        Long sequence = sequenceById.get(id);
+        return sequence == null ? Optional.empty() : Optional.ofNullable(bySequence.get(sequence));
+    }
+
+    @Override
+    public Optional<MockEmployee> findFirstByName(@NonNull String name) {
+        NavigableSet<Long> sequences = sequencesByName.get(normalise(name));
+        if (sequences == null) {
+            return Optional.empty();
+        }
+        return sequences.stream().map(bySequence::get).filter(Objects::nonNull).findFirst();
+    }
+
+    @Override
+    public void add(@NonNull MockEmployee employee) {
+        addAll(List.of(employee));
+    }
+
+    /**
+     * Takes the write lock once for all employees, which is what makes seeding a large roster cheap.
+     */
+    @Override
+    public void addAll(@NonNull Collection<MockEmployee> employees) {
+        long stamp = lock.writeLock();
+        try {
+            for (MockEmployee employee : employees) {
+                insert(employee);
+            }
+        } finally {
+            version++;
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void insert(MockEmployee employee) {
+        UUID id = employee.getId();
+        if (id == null) {
+            throw new IllegalArgumentException("Employee has no id: " + employee);
+        }
+        long sequence = nextSequence++;
+        if (sequenceById.putIfAbsent(id, sequence) != null) {
+            throw new IllegalArgumentException("Duplicate employee id: " + id);
+        }
+        bySequence.put(sequence, employee);
+        if (employee.getName() != null) {
+            sequencesByName
+                    .computeIfAbsent(normalise(employee.getName()), ignored -> new ConcurrentSkipListSet<>())
+                    .add(sequence);
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> removeFirstByName(@NonNull String name) {
+        return removeFirstByNames(List.of(name)).get(0);
+    }
+
+    @Override
+    public List<Optional<MockEmployee>> removeFirstByNames(@NonNull List<String> names) {
+        List<Optional<MockEmployee>> removed = new ArrayList<>(names.size());
+        long stamp = lock.writeLock();
+        try {
+            for (String name : names) {
+                removed.add(remove(normalise(name)));
+            }
+        } finally {
+            version++;
+            lock.unlockWrite(stamp);
+        }
+        return removed;
+    }
+
+    private Optional<MockEmployee> remove(String key) {
+        NavigableSet<Long> sequences = sequencesByName.get(key);
+        if (sequences == null || sequences.isEmpty()) {
+            return Optional.empty();
+        }
+        long sequence = sequences.pollFirst();
+        if (sequences.isEmpty()) {
+            sequencesByName.remove(key);
+        }
+        MockEmployee employee = bySequence.remove(sequence);
+        sequenceById.remove(employee.getId());
+        return Optional.of(employee);
+    }
+
+    @Override
+    public List<MockEmployee> snapshot() {
+        Snapshot cached = snapshot;
+        for (int attempt = 0; attempt < OPTIMISTIC_ATTEMPTS; attempt++) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp == 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            long current = version;
+            if (cached.version() == current && lock.validate(stamp)) {
+                return cached.employees();
+            }
+            List<MockEmployee> employees = List.copyOf(bySequence.values());
+            if (lock.validate(stamp)) {
+                return cache(new Snapshot(current, employees));
+            }
+        }
+        // Writes kept landing mid-copy; hold them off for one copy rather than retrying forever.
+        long stamp = lock.readLock();
+        try {
+            return cache(new Snapshot(version, List.copyOf(bySequence.values())));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * A page is read straight from the sequence index without the lock, so each page is cheap and bounded by the
+     * limit.
+     */
+    @Override
+    public EmployeePage page(String cursor, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page limit must be positive: " + limit);
+        }
+        var remaining = cursor == null
+                ? bySequence.entrySet()
+                : bySequence.tailMap(EmployeeCursor.decode(cursor), false).entrySet();
+        List<MockEmployee> employees = new ArrayList<>(Math.min(limit, 1024));
+        long last = -1;
+        for (var entry : remaining) {
+            if (employees.size() == limit) {
+                return new EmployeePage(List.copyOf(employees), EmployeeCursor.encode(last));
+            }
+            employees.add(entry.getValue());
+            last = entry.getKey();
+        }
+        return new EmployeePage(List.copyOf(employees), null);
+    }
+
+    @Override
+    public int size() {
+        return sequenceById.size();
+    }
+
+    private List<MockEmployee> cache(Snapshot fresh) {
+        Snapshot cached = snapshot;
+        if (fresh.version() > cached.version()) {
+            snapshot = fresh;
+        }
+        return fresh.employees();
+    }
+
+    private static String normalise(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private record Snapshot(long version, List<MockEmployee> employees) {}
+}
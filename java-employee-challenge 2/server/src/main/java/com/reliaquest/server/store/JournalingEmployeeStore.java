@@ -0,0 +1,332 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link EmployeeStore} decorator that makes the roster survive restarts.
+ * <p>
+ * Every create and delete is applied to the underlying store and then appended to a journal file. Files come in
+ * generations: {@code snapshot-N.bin} holds the whole roster as of the start of {@code journal-N.log}. Compaction
+ * periodically switches writes to a new journal and, in the background, writes the roster as of that switch as the
+ * next snapshot, after which older files are deleted. On boot the newest snapshot is read back through a memory
+ * mapping and every journal from its generation on is replayed, which is much cheaper than generating a roster.
+ * Without any files the roster is seeded once and snapshotted straight away.
+ * <p>
+ * The journal is flushed to the operating system after every mutation, so it survives the JVM dying; with
+ * {@code fsync} it is also forced to disk, which survives the machine dying but costs a disk write per mutation.
+ */
+@Slf4j
+public class JournalingEmployeeStore implements EmployeeStore, Closeable {
+
+    private static final Pattern GENERATION = Pattern.compile("(snapshot|journal)-(\\d+)\\.(bin|log)");
+
+    private final EmployeeStore delegate;
+    private final Path directory;
+    private final boolean fsync;
+    private final ScheduledExecutorService compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "roster-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private long generation;
+    private FileChannel journalChannel;
+    private DataOutputStream journal;
+    private long entriesSinceCompaction;
+
+    private JournalingEmployeeStore(EmployeeStore delegate, Path directory, boolean fsync) {
+        this.delegate = delegate;
+        this.directory = directory;
+        this.fsync = fsync;
+    }
+
+    /**
+     * Restores {@code delegate} from {@code directory}, or fills it from {@code seeder} if there is nothing to restore,
+     * and starts journaling.
+     *
+     * @param delegate an empty store
+     * @throws UncheckedIOException if the directory cannot be read or the first journal cannot be created
+     */
+    public static JournalingEmployeeStore open(
+            @NonNull EmployeeStore delegate,
+            @NonNull Path directory,
+            @NonNull Supplier<List<MockEmployee>> seeder,
+            @NonNull Duration compactionInterval,
+            boolean fsync) {
+        final JournalingEmployeeStore store = new JournalingEmployeeStore(delegate, directory, fsync);
+        try {
+            Files.createDirectories(directory);
+            final long replayed = store.restore(seeder);
+            final List<MockEmployee> roster = store.rotate();
+            if (replayed != 0) {
+                // Fold the seeded roster or the replayed journals into a snapshot, so the next boot starts from it.
+                final long generation = store.generation;
+                store.compactor.execute(() -> store.persist(roster, generation));
+            }
+        } catch (IOException e) {
+            store.close();
+            throw new UncheckedIOException("Unable to open roster journal in " + directory, e);
+        }
+        final long interval = compactionInterval.toMillis();
+        store.compactor.scheduleWithFixedDelay(store::compact, interval, interval, TimeUnit.MILLISECONDS);
+        return store;
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<MockEmployee> findFirstByName(@NonNull String name) {
+        return delegate.findFirstByName(name);
+    }
+
+    @Override
+    public void add(@NonNull MockEmployee employee) {
+        addAll(List.of(employee));
+    }
+
+    @Override
+    public synchronized void addAll(@NonNull Collection<MockEmployee> employees) {
+        // Applied first, so an entry is only journaled once the store has accepted it.
+        delegate.addAll(employees);
+        append(
+                out -> {
+                    for (MockEmployee employee : employees) {
+                        out.writeByte(RosterFiles.ADD);
+                        RosterFiles.writeEmployee(out, employee);
+                    }
+                },
+                employees.size());
+    }
+
+    @Override
+    public Optional<MockEmployee> removeFirstByName(@NonNull String name) {
+        return removeFirstByNames(List.of(name)).get(0);
+    }
+
+    @Override
+    public synchronized List<Optional<MockEmployee>> removeFirstByNames(@NonNull List<String> names) {
+        final List<Optional<MockEmployee>> removed = delegate.removeFirstByNames(names);
+        final List<String> removedNames = IntStream.range(0, names.size())
+                .filter(index -> removed.get(index).isPresent())
+                .mapToObj(names::get)
+                .toList();
+        if (!removedNames.isEmpty()) {
+            append(
+                    out -> {
+                        for (String name : removedNames) {
+                            out.writeByte(RosterFiles.REMOVE_BY_NAME);
+                            RosterFiles.writeString(out, name);
+                        }
+                    },
+                    removedNames.size());
+        }
+        return removed;
+    }
+
+    @Override
+    public List<MockEmployee> snapshot() {
+        return delegate.snapshot();
+    }
+
+    @Override
+    public EmployeePage page(String cursor, int limit) {
+        return delegate.page(cursor, limit);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public void close() {
+        compactor.shutdown();
+        try {
+            if (!compactor.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.warn("Roster compaction did not finish before shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            closeJournal();
+        }
+    }
+
+    /**
+     * @return the number of journal entries replayed, or {@code -1} if there was no snapshot and the store has been
+     *     seeded instead
+     */
+    private long restore(Supplier<List<MockEmployee>> seeder) throws IOException {
+        final OptionalLong snapshotGeneration = latest("snapshot");
+        if (snapshotGeneration.isEmpty()) {
+            // Journals without a snapshot belong to a roster that was never persisted; they are left to be deleted.
+            delegate.addAll(seeder.get());
+            generation = latest("journal").orElse(-1);
+            return -1;
+        }
+        final long started = System.nanoTime();
+        generation = snapshotGeneration.getAsLong();
+        delegate.addAll(RosterFiles.readSnapshot(snapshotFile(generation)));
+        long replayed = 0;
+        for (long journalGeneration : generations("journal")) {
+            if (journalGeneration >= generation) {
+                replayed += RosterFiles.replayJournal(
+                        journalFile(journalGeneration), delegate::add, delegate::removeFirstByName);
+                generation = journalGeneration;
+            }
+        }
+        log.info(
+                "Restored {} employees from {} (snapshot {}, {} journal entries) in {} ms",
+                delegate.size(),
+                directory,
+                snapshotGeneration.getAsLong(),
+                replayed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return replayed;
+    }
+
+    /**
+     * Switches appends to the journal of the next generation.
+     *
+     * @return the roster as of the switch, i.e. the snapshot belonging to the new generation
+     */
+    private synchronized List<MockEmployee> rotate() throws IOException {
+        closeJournal();
+        generation++;
+        journalChannel = FileChannel.open(
+                journalFile(generation),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        journal = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(journalChannel), 1 << 13));
+        entriesSinceCompaction = 0;
+        return delegate.snapshot();
+    }
+
+    private void compact() {
+        try {
+            final List<MockEmployee> roster;
+            final long compactedGeneration;
+            synchronized (this) {
+                if (entriesSinceCompaction == 0) {
+                    return;
+                }
+                roster = rotate();
+                compactedGeneration = generation;
+            }
+            persist(roster, compactedGeneration);
+        } catch (IOException | RuntimeException e) {
+            log.error("Roster compaction failed, the journal keeps growing until the next attempt", e);
+        }
+    }
+
+    private void persist(List<MockEmployee> roster, long snapshotGeneration) {
+        try {
+            final long started = System.nanoTime();
+            RosterFiles.writeSnapshot(snapshotFile(snapshotGeneration), roster);
+            deleteBefore(snapshotGeneration);
+            log.info(
+                    "Wrote roster snapshot {} ({} employees) in {} ms",
+                    snapshotGeneration,
+                    roster.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (IOException e) {
+            log.error("Unable to write roster snapshot {}", snapshotGeneration, e);
+        }
+    }
+
+    private void append(JournalWrite write, int entries) {
+        try {
+            write.to(journal);
+            journal.flush();
+            if (fsync) {
+                journalChannel.force(false);
+            }
+            entriesSinceCompaction += entries;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to append to roster journal", e);
+        }
+    }
+
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            log.warn("Unable to close roster journal", e);
+        }
+        journal = null;
+        journalChannel = null;
+    }
+
+    private OptionalLong latest(String kind) throws IOException {
+        final List<Long> found = generations(kind);
+        return found.isEmpty() ? OptionalLong.empty() : OptionalLong.of(found.get(found.size() - 1));
+    }
+
+    private List<Long> generations(String kind) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> GENERATION.matcher(file.getFileName().toString()))
+                    .filter(matcher -> matcher.matches() && matcher.group(1).equals(kind))
+                    .map(matcher -> Long.parseLong(matcher.group(2)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private void deleteBefore(long snapshotGeneration) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                final Matcher matcher = GENERATION.matcher(file.getFileName().toString());
+                if (matcher.matches() && Long.parseLong(matcher.group(2)) < snapshotGeneration) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private Path snapshotFile(long snapshotGeneration) {
+        return directory.resolve("snapshot-%d.bin".formatted(snapshotGeneration));
+    }
+
+    private Path journalFile(long journalGeneration) {
+        return directory.resolve("journal-%d.log".formatted(journalGeneration));
+    }
+
+    @FunctionalInterface
+    private interface JournalWrite {
+        void to(DataOutputStream out) throws IOException;
+    }
+}
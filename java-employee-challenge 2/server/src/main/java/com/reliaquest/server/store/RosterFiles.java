@@ -0,0 +1,177 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Binary layout of the roster snapshot and journal files.
+ * <p>
+ * A snapshot is a header ({@code ROST} magic, format version, employee count) followed by one record per employee:
+ * the UUID as two longs, salary and age as ints ({@link Integer#MIN_VALUE} for null) and name, title and email as
+ * length-prefixed UTF-8 ({@code -1} for null). A journal is a sequence of entries, each an operation byte followed by
+ * an employee record ({@link #ADD}) or a name ({@link #REMOVE_BY_NAME}).
+ */
+@Slf4j
+final class RosterFiles {
+
+    static final byte ADD = 1;
+    static final byte REMOVE_BY_NAME = 2;
+
+    private static final int MAGIC = 0x524F5354;
+    private static final int FORMAT_VERSION = 1;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+
+    private RosterFiles() {}
+
+    /**
+     * Writes to a temporary file and moves it into place, so a crash never leaves a half-written snapshot behind.
+     */
+    static void writeSnapshot(Path file, List<MockEmployee> employees) throws IOException {
+        final Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(
+                        temporary,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING,
+                        StandardOpenOption.WRITE);
+                DataOutputStream out =
+                        new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(employees.size());
+            for (MockEmployee employee : employees) {
+                writeEmployee(out, employee);
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Maps the snapshot into memory and decodes it straight from the mapping, without copying it through a stream.
+     */
+    static List<MockEmployee> readSnapshot(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot too large to map: " + file);
+            }
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("Not a roster snapshot: " + file);
+            }
+            final int count = buffer.getInt();
+            final List<MockEmployee> employees = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                employees.add(MockEmployee.builder()
+                        .id(new UUID(buffer.getLong(), buffer.getLong()))
+                        .salary(nullableInt(buffer.getInt()))
+                        .age(nullableInt(buffer.getInt()))
+                        .name(readString(buffer))
+                        .title(readString(buffer))
+                        .email(readString(buffer))
+                        .build());
+            }
+            return employees;
+        }
+    }
+
+    /**
+     * Replays a journal in order. A torn last entry (the server died while writing it) ends the replay.
+     *
+     * @return the number of entries replayed
+     */
+    static int replayJournal(Path file, Consumer<MockEmployee> add, Consumer<String> removeByName) throws IOException {
+        int replayed = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            while (true) {
+                final int operation = in.read();
+                if (operation == -1) {
+                    return replayed;
+                }
+                switch (operation) {
+                    case ADD -> add.accept(readEmployee(in));
+                    case REMOVE_BY_NAME -> removeByName.accept(readString(in));
+                    default -> throw new IOException("Unknown journal operation %d in %s".formatted(operation, file));
+                }
+                replayed++;
+            }
+        } catch (EOFException e) {
+            log.warn("Journal {} ends in a torn entry after {} entries, ignoring it", file, replayed);
+            return replayed;
+        }
+    }
+
+    static void writeEmployee(DataOutputStream out, MockEmployee employee) throws IOException {
+        out.writeLong(employee.getId().getMostSignificantBits());
+        out.writeLong(employee.getId().getLeastSignificantBits());
+        out.writeInt(employee.getSalary() == null ? NULL_INT : employee.getSalary());
+        out.writeInt(employee.getAge() == null ? NULL_INT : employee.getAge());
+        writeString(out, employee.getName());
+        writeString(out, employee.getTitle());
+        writeString(out, employee.getEmail());
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static MockEmployee readEmployee(DataInputStream in) throws IOException {
+        return MockEmployee.builder()
+                .id(new UUID(in.readLong(), in.readLong()))
+                .salary(nullableInt(in.readInt()))
+                .age(nullableInt(in.readInt()))
+                .name(readString(in))
+                .title(readString(in))
+                .email(readString(in))
+                .build();
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Integer nullableInt(int value) {
+        return value == NULL_INT ? null : value;
+    }
+}
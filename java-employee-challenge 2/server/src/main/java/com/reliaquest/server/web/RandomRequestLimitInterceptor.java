@@ -2,47 +2,64 @@ package com.reliaquest.server.web;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.random.RandomGenerator;
-import lombok.Getter;
+import lombok.NonNull;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+/**
+ * The original limiter: one window shared by all clients that admits a random 5 to 9 requests and then refuses
+ * everything until a random 30 to 89 seconds have passed since the last admitted request.
+ * <p>
+ * The limit and the backoff are drawn once per instance from the given generator, and the window is updated with a
+ * single CAS per request, so two requests can no longer both take the last slot.
+ */
 public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
-    private static final int REQUEST_LIMIT = RandomGenerator.getDefault().nextInt(5, 10);
-    private static final Duration REQUEST_BACKOFF_DURATION =
-            Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+    private final int requestLimit;
+    private final Duration requestBackoffDuration;
+    private final Clock clock;
+    private final AtomicReference<RequestLimit> window;
 
-    private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
+    public RandomRequestLimitInterceptor() {
+        this(RandomGenerator.getDefault(), Clock.systemUTC());
+    }
+
+    public RandomRequestLimitInterceptor(@NonNull RandomGenerator random, @NonNull Clock clock) {
+        this.requestLimit = random.nextInt(5, 10);
+        this.requestBackoffDuration = Duration.ofSeconds(random.nextInt(30, 90));
+        this.clock = clock;
+        this.window = new AtomicReference<>(new RequestLimit(0, clock.instant()));
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isBefore(requestLimit.get().getLastRequested())) {
-                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-                return false;
+        while (true) {
+            final Instant now = clock.instant();
+            final RequestLimit current = window.get();
+            final RequestLimit next;
+            if (current.count() < requestLimit) {
+                next = new RequestLimit(current.count() + 1, now);
+            } else {
+                final Instant blockedUntil = current.lastRequested().plus(requestBackoffDuration);
+                if (now.isBefore(blockedUntil)) {
+                    final long retryAfter = Duration.between(now, blockedUntil).toSeconds() + 1;
+                    response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+                    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                    return false;
+                }
+                next = new RequestLimit(0, now);
             }
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isAfter(requestLimit.get().getLastRequested())) {
-                requestLimit.set(RequestLimit.init());
+            if (window.compareAndSet(current, next)) {
+                return true;
             }
-        } else {
-            requestLimit.getAndUpdate(
-                    currentRequestLimit -> new RequestLimit(currentRequestLimit.count() + 1, Instant.now()));
         }
-
-        return true;
     }
 
-    private record RequestLimit(@Getter int count, @Getter Instant lastRequested) {
-        public static RequestLimit init() {
-            return new RequestLimit(0, Instant.now());
-        }
-    }
+    private record RequestLimit(int count, Instant lastRequested) {}
 }
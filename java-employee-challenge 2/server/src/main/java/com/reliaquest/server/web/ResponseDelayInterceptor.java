@@ -0,0 +1,27 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import lombok.NonNull;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Holds every request for a fixed time before it is handled, so clients can be exercised against an upstream with
+ * realistic latency. The request thread sleeps, which costs nothing on a virtual thread.
+ */
+public class ResponseDelayInterceptor implements HandlerInterceptor {
+
+    private final long delayMillis;
+
+    public ResponseDelayInterceptor(@NonNull Duration delay) {
+        this.delayMillis = delay.toMillis();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        Thread.sleep(delayMillis);
+        return true;
+    }
+}
@@ -0,0 +1,130 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Rate limits each client on its own token bucket: {@code limit} requests per {@code period}, of which up to
+ * {@code burst} may arrive back to back.
+ * <p>
+ * A client is named by the {@code clientHeader} request header, or by its remote address without one. Each bucket is
+ * a single {@link AtomicLong} holding the instant at which it will be full again (the generic cell rate algorithm): a
+ * request is admitted by advancing that instant by one emission interval ({@code period / limit}) with a CAS, and
+ * refused while it lies more than {@code burst - 1} intervals ahead. Clients therefore never contend with each other,
+ * and there is no refill task. Buckets that are full again are indistinguishable from new ones, so they are swept
+ * whenever a new client arrives while {@code maxClients} are tracked.
+ * <p>
+ * Every response carries {@code X-RateLimit-Limit}, {@code X-RateLimit-Remaining} and {@code X-RateLimit-Reset}
+ * (seconds until the bucket is full); a refused request gets 429 with {@code Retry-After} in seconds. Time comes from
+ * the given {@link Clock}, so throttling is reproducible with a fixed or stepped clock.
+ */
+public class TokenBucketRateLimitInterceptor implements HandlerInterceptor {
+
+    static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    static final String RESET_HEADER = "X-RateLimit-Reset";
+
+    private final int limit;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final String clientHeader;
+    private final int maxClients;
+    private final Clock clock;
+    private final Map<String, AtomicLong> fullAtByClient = new ConcurrentHashMap<>();
+
+    /**
+     * @param clientHeader request header naming the client, or {@code null} to key by remote address only
+     * @throws IllegalArgumentException if {@code limit}, {@code period}, {@code burst} or {@code maxClients} is not
+     *     positive
+     */
+    public TokenBucketRateLimitInterceptor(
+            int limit, @NonNull Duration period, int burst, String clientHeader, int maxClients, @NonNull Clock clock) {
+        if (limit < 1 || burst < 1 || maxClients < 1 || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("Rate limit %d per %s with burst %d for %d clients is not positive"
+                    .formatted(limit, period, burst, maxClients));
+        }
+        this.limit = limit;
+        this.intervalNanos = Math.max(1, period.toNanos() / limit);
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.clientHeader = clientHeader == null || clientHeader.isBlank() ? null : clientHeader;
+        this.maxClients = maxClients;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final long now = nanos(clock.instant());
+        final AtomicLong fullAt = bucket(clientOf(request), now);
+        while (true) {
+            final long current = fullAt.get();
+            final long start = Math.max(current, now);
+            final long ahead = start - now;
+            if (ahead > toleranceNanos) {
+                setHeaders(response, 0, ahead);
+                response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(ceilSeconds(ahead - toleranceNanos)));
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                return false;
+            }
+            final long next = start + intervalNanos;
+            if (fullAt.compareAndSet(current, next)) {
+                final long untilFull = next - now;
+                final long remaining = (toleranceNanos + intervalNanos - untilFull) / intervalNanos;
+                setHeaders(response, remaining, untilFull);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return number of clients currently tracked
+     */
+    public int getTrackedClients() {
+        return fullAtByClient.size();
+    }
+
+    private AtomicLong bucket(String client, long now) {
+        final AtomicLong existing = fullAtByClient.get(client);
+        if (existing != null) {
+            return existing;
+        }
+        if (fullAtByClient.size() >= maxClients) {
+            fullAtByClient.values().removeIf(fullAt -> fullAt.get() <= now);
+        }
+        return fullAtByClient.computeIfAbsent(client, ignored -> new AtomicLong(now));
+    }
+
+    private String clientOf(HttpServletRequest request) {
+        if (clientHeader != null) {
+            final String client = request.getHeader(clientHeader);
+            if (client != null && !client.isBlank()) {
+                return client;
+            }
+        }
+        return String.valueOf(request.getRemoteAddr());
+    }
+
+    private void setHeaders(HttpServletResponse response, long remaining, long untilFullNanos) {
+        response.setHeader(LIMIT_HEADER, Integer.toString(limit));
+        response.setHeader(REMAINING_HEADER, Long.toString(Math.max(0, remaining)));
+        response.setHeader(RESET_HEADER, Long.toString(ceilSeconds(untilFullNanos)));
+    }
+
+    private static long ceilSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private static long nanos(Instant instant) {
+        return TimeUnit.SECONDS.toNanos(instant.getEpochSecond()) + instant.getNano();
+    }
+}
@@ -0,0 +1,45 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ParallelEmployeeSeederTest {
+
+    @Test
+    void sameSeedYieldsTheSameRosterWhateverTheChunkSize() {
+        final List<MockEmployee> roster = seed(42, 1000, 250);
+
+        assertEquals(250, roster.size());
+        assertEquals(roster, seed(42, 1000, 250));
+        assertEquals(roster, seed(42, 1, 250));
+        assertEquals(roster, seed(42, 7, 250));
+        assertEquals(roster, seed(42, 64, 250));
+        assertEquals(roster.subList(0, 100), seed(42, 33, 100));
+    }
+
+    @Test
+    void neighbouringSeedsShareNoEmployees() {
+        final Set<UUID> ids = new HashSet<>();
+        for (long seed = 40; seed < 45; seed++) {
+            seed(seed, 31, 200).forEach(employee -> ids.add(employee.getId()));
+        }
+
+        assertEquals(5 * 200, ids.size());
+        assertNotEquals(names(seed(42, 31, 50)), names(seed(43, 31, 50)));
+    }
+
+    private static List<MockEmployee> seed(long seed, int chunkSize, int count) {
+        return new ParallelEmployeeSeeder(seed, chunkSize, Locale.US).seed(count);
+    }
+
+    private static List<String> names(List<MockEmployee> employees) {
+        return employees.stream().map(MockEmployee::getName).toList();
+    }
+}
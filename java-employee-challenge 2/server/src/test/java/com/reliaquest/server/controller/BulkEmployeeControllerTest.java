@@ -0,0 +1,169 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.EmployeeChangeLog;
+import com.reliaquest.server.service.EmployeeStatistics;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.IndexedEmployeeStore;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+class BulkEmployeeControllerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+
+    @AfterEach
+    void closeValidatorFactory() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void createsValidLinesInOneWriteAndReportsEveryLine() throws IOException {
+        final EmployeeStore store = new IndexedEmployeeStore();
+        final EmployeeChangeLog changeLog = new EmployeeChangeLog(16);
+        final String before = changeLog.cursor();
+
+        final List<JsonNode> results = results(controller(store, changeLog)
+                .createEmployees(body(
+                        "{\"name\":\"Alice\",\"salary\":50000,\"age\":30,\"title\":\"Engineer\"}",
+                        "",
+                        "{\"name\":\"Bob\",\"salary\":40000,\"age\":10,\"title\":\"Intern\"}",
+                        "{\"name\":",
+                        "{\"name\":\"Carol\",\"salary\":60000,\"age\":40,\"title\":\"Manager\"}")));
+
+        assertEquals(List.of(1, 3, 4, 5), lines(results));
+        assertEquals(List.of("CREATED", "INVALID", "INVALID", "CREATED"), outcomes(results));
+        assertEquals("Alice", results.get(0).get("data").get("employee_name").asText());
+        assertEquals(
+                store.snapshot().get(0).getId().toString(),
+                results.get(0).get("data").get("id").asText());
+        assertEquals(1, results.get(1).get("errors").size());
+        assertTrue(results.get(1).get("errors").get(0).asText().startsWith("age: "));
+        assertTrue(results.get(2).get("errors").get(0).asText().startsWith("Malformed JSON: "));
+        assertEquals(List.of("Alice", "Carol"), names(store.snapshot()));
+        assertEquals(2, changeLog.changesSince(before).orElseThrow().size());
+    }
+
+    @Test
+    void nullLineIsInvalidAndTheRestOfTheBatchIsApplied() throws IOException {
+        final EmployeeStore store = new IndexedEmployeeStore(List.of(employee("Alice")));
+        final EmployeeChangeLog changeLog = new EmployeeChangeLog(16);
+        final BulkEmployeeController controller = controller(store, changeLog);
+
+        final List<JsonNode> created = results(controller.createEmployees(
+                body("null", "{\"name\":\"Bob\",\"salary\":40000,\"age\":30,\"title\":\"Engineer\"}")));
+        final List<JsonNode> deleted = results(controller.deleteEmployees(body("{\"name\":\"Alice\"}", "null")));
+
+        assertEquals(List.of("INVALID", "CREATED"), outcomes(created));
+        assertEquals(
+                "Expected a JSON object, got null",
+                created.get(0).get("errors").get(0).asText());
+        assertEquals(List.of("DELETED", "INVALID"), outcomes(deleted));
+        assertEquals(List.of(1, 2), lines(deleted));
+        assertEquals(List.of("Bob"), names(store.snapshot()));
+    }
+
+    @Test
+    void deletesOldestEmployeePerLineAndReportsMissingOnes() throws IOException {
+        final EmployeeStore store =
+                new IndexedEmployeeStore(List.of(employee("Alice"), employee("Bob"), employee("Alice")));
+        final EmployeeChangeLog changeLog = new EmployeeChangeLog(16);
+        final String before = changeLog.cursor();
+        final MockEmployeeService service = service(store, changeLog);
+
+        final List<JsonNode> results = results(new BulkEmployeeController(service, validator(), OBJECT_MAPPER)
+                .deleteEmployees(body("{\"name\":\"alice\"}", "{\"name\":\"Nobody\"}", "{}", "{\"name\":\"ALICE\"}")));
+
+        assertEquals(List.of(1, 2, 3, 4), lines(results));
+        assertEquals(List.of("DELETED", "NOT_FOUND", "INVALID", "DELETED"), outcomes(results));
+        assertEquals("alice", results.get(0).get("data").asText());
+        assertFalse(results.get(2).has("data"));
+        assertEquals(List.of("Bob"), names(store.snapshot()));
+        assertEquals(2, changeLog.changesSince(before).orElseThrow().size());
+        assertEquals(1, service.getStats(1).headcount());
+    }
+
+    @Test
+    void emptyBodyAnswersWithNoLines() throws IOException {
+        final EmployeeStore store = new IndexedEmployeeStore();
+
+        final ResponseEntity<StreamingResponseBody> response =
+                controller(store, new EmployeeChangeLog(16)).createEmployees(body("", "  "));
+
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals(List.of(), results(response));
+        assertEquals(0, store.size());
+    }
+
+    private BulkEmployeeController controller(EmployeeStore store, EmployeeChangeLog changeLog) {
+        return new BulkEmployeeController(service(store, changeLog), validator(), OBJECT_MAPPER);
+    }
+
+    private Validator validator() {
+        return validatorFactory.getValidator();
+    }
+
+    private static MockEmployeeService service(EmployeeStore store, EmployeeChangeLog changeLog) {
+        return new MockEmployeeService(new Faker(), store, changeLog, new EmployeeStatistics(store::snapshot, 10));
+    }
+
+    private static ByteArrayInputStream body(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<JsonNode> results(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        final List<JsonNode> results = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                results.add(OBJECT_MAPPER.readTree(line));
+            }
+        }
+        return results;
+    }
+
+    private static List<Integer> lines(List<JsonNode> results) {
+        return results.stream().map(result -> result.get("line").asInt()).toList();
+    }
+
+    private static List<String> outcomes(List<JsonNode> results) {
+        return results.stream().map(result -> result.get("outcome").asText()).toList();
+    }
+
+    private static List<String> names(List<MockEmployee> employees) {
+        return employees.stream().map(MockEmployee::getName).toList();
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50_000)
+                .age(30)
+                .title("Engineer")
+                .email(name.toLowerCase() + "@company.com")
+                .build();
+    }
+}
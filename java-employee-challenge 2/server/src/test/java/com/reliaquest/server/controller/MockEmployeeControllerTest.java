@@ -0,0 +1,129 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeStats;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.EmployeeChangeLog;
+import com.reliaquest.server.service.EmployeeStatistics;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.IndexedEmployeeStore;
+import java.util.List;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class MockEmployeeControllerTest {
+
+    private final MockEmployee alice = MockEmployee.builder()
+            .id(UUID.randomUUID())
+            .name("Alice")
+            .salary(50_000)
+            .age(30)
+            .title("Engineer")
+            .email("alice@company.com")
+            .build();
+    private final EmployeeStore store = new IndexedEmployeeStore(List.of(alice));
+    private final MockEmployeeService service = new MockEmployeeService(
+            new Faker(), store, new EmployeeChangeLog(16), new EmployeeStatistics(store::snapshot, 10));
+    private final MockEmployeeController controller = new MockEmployeeController(service, 100, 10_000);
+
+    @Test
+    void employeeTagOutlivesWritesToOtherEmployees() {
+        final MockHttpServletResponse first = new MockHttpServletResponse();
+        controller.getEmployee(alice.getId(), request(null, first));
+        final String tag = first.getHeader(HttpHeaders.ETAG);
+        assertNotNull(tag);
+
+        final CreateMockEmployeeInput bob = new CreateMockEmployeeInput();
+        bob.setName("Bob");
+        bob.setSalary(40_000);
+        bob.setAge(40);
+        bob.setTitle("Manager");
+        service.create(bob);
+        final MockHttpServletResponse second = new MockHttpServletResponse();
+
+        assertNull(controller.getEmployee(alice.getId(), request(tag, second)));
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), second.getStatus());
+    }
+
+    @Test
+    void employeesHaveTheirOwnTagsAndRosterTagStillChangesOnWrites() {
+        final MockEmployee bob =
+                alice.toBuilder().id(UUID.randomUUID()).name("Bob").build();
+        store.add(bob);
+        final MockHttpServletResponse aliceResponse = new MockHttpServletResponse();
+        final MockHttpServletResponse bobResponse = new MockHttpServletResponse();
+        controller.getEmployee(alice.getId(), request(null, aliceResponse));
+        controller.getEmployee(bob.getId(), request(null, bobResponse));
+
+        assertNotEquals(aliceResponse.getHeader(HttpHeaders.ETAG), bobResponse.getHeader(HttpHeaders.ETAG));
+
+        final MockHttpServletResponse roster = new MockHttpServletResponse();
+        controller.getEmployees(null, null, request(null, roster));
+        final String rosterTag = roster.getHeader(HttpHeaders.ETAG);
+        final DeleteMockEmployeeInput delete = new DeleteMockEmployeeInput();
+        delete.setName("Bob");
+        service.delete(delete);
+        final MockHttpServletResponse changed = new MockHttpServletResponse();
+
+        assertNotNull(controller.getEmployees(null, null, request(rosterTag, changed)));
+        assertEquals(HttpStatus.OK.value(), changed.getStatus());
+    }
+
+    @Test
+    void taggedReadsVaryOnAcceptIncludingNotModified() {
+        final MockHttpServletResponse roster = new MockHttpServletResponse();
+        controller.getEmployees(null, null, request(null, roster));
+        final MockHttpServletResponse notModified = new MockHttpServletResponse();
+        controller.getEmployees(null, null, request(roster.getHeader(HttpHeaders.ETAG), notModified));
+        final MockHttpServletResponse employee = new MockHttpServletResponse();
+        controller.getEmployee(alice.getId(), request(null, employee));
+
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), notModified.getStatus());
+        for (MockHttpServletResponse response : List.of(roster, notModified, employee)) {
+            assertEquals(List.of(HttpHeaders.ACCEPT), response.getHeaders(HttpHeaders.VARY));
+        }
+    }
+
+    @Test
+    void deletedEmployeeIsNotFoundWhateverTagIsSent() {
+        final MockHttpServletResponse first = new MockHttpServletResponse();
+        controller.getEmployee(alice.getId(), request(null, first));
+        final DeleteMockEmployeeInput delete = new DeleteMockEmployeeInput();
+        delete.setName("Alice");
+        service.delete(delete);
+
+        final ResponseEntity<Response<MockEmployee>> response = controller.getEmployee(
+                alice.getId(), request(first.getHeader(HttpHeaders.ETAG), new MockHttpServletResponse()));
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    void statsAreServedWithoutValidator() {
+        final ResponseEntity<Response<EmployeeStats>> response = controller.getStats(10);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getHeaders().getETag());
+        assertEquals(1, response.getBody().data().headcount());
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch, MockHttpServletResponse response) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, response);
+    }
+}
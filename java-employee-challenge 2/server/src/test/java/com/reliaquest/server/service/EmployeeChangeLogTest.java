@@ -0,0 +1,106 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class EmployeeChangeLogTest {
+
+    @Test
+    void cursorFollowsOnlyLaterChanges() {
+        final EmployeeChangeLog log = new EmployeeChangeLog(4);
+        final String start = log.cursor();
+        final MockEmployee john = employee("John Doe");
+
+        log.created(List.of(john, employee("Luke Shaw")));
+        log.deleted(List.of(john));
+
+        final List<EmployeeChange> changes = log.changesSince(start).orElseThrow();
+        assertEquals(List.of(1L, 2L, 3L), versions(changes));
+        assertEquals(EmployeeChange.Type.DELETED, changes.get(2).type());
+        assertSame(john, changes.get(2).employee());
+        assertEquals(
+                List.of(3L),
+                versions(log.changesSince(log.cursorOf(changes.get(1))).orElseThrow()));
+        assertEquals(List.of(), log.changesSince(log.cursor()).orElseThrow());
+    }
+
+    @Test
+    void cursorExpiresOnceItsChangesAreOverwritten() {
+        final EmployeeChangeLog log = new EmployeeChangeLog(3);
+        final String start = log.cursor();
+        log.created(List.of(employee("A"), employee("B"), employee("C")));
+        final EmployeeChange first = log.changesSince(start).orElseThrow().get(0);
+        assertTrue(log.changesSince(start).isPresent());
+
+        log.created(List.of(employee("D")));
+
+        assertTrue(log.changesSince(start).isEmpty());
+        final List<EmployeeChange> retained =
+                log.changesSince(log.cursorOf(first)).orElseThrow();
+        assertEquals(List.of(2L, 3L, 4L), versions(retained));
+        assertEquals("D", retained.get(2).employee().getName());
+        assertTrue(log.subscribe(start, change -> {}).isEmpty());
+    }
+
+    @Test
+    void cursorOfAnotherLogIsExpiredAndGarbageIsRejected() {
+        final EmployeeChangeLog log = new EmployeeChangeLog(3);
+
+        assertTrue(log.changesSince(new EmployeeChangeLog(3).cursor()).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> log.changesSince("AAAA"));
+        assertThrows(IllegalArgumentException.class, () -> log.changesSince("not a cursor!"));
+    }
+
+    @Test
+    void subscriptionDeliversBacklogThenLiveChangesUntilCancelled() {
+        final EmployeeChangeLog log = new EmployeeChangeLog(8);
+        log.created(List.of(employee("A")));
+        final String afterFirst = log.cursor();
+        log.created(List.of(employee("B"), employee("C")));
+        final List<EmployeeChange> received = new ArrayList<>();
+
+        final Runnable cancel = log.subscribe(afterFirst, received::add).orElseThrow();
+        log.created(List.of(employee("D")));
+        cancel.run();
+        log.created(List.of(employee("E")));
+
+        assertEquals(List.of(2L, 3L, 4L), versions(received));
+    }
+
+    @Test
+    void subscribingWhileWritesContinueMissesAndRepeatsNothing() throws InterruptedException {
+        final int writes = 20_000;
+        final EmployeeChangeLog log = new EmployeeChangeLog(writes);
+        final String start = log.cursor();
+        final Thread writer = new Thread(() -> {
+            for (int i = 0; i < writes; i++) {
+                log.created(List.of(employee("Employee " + i)));
+            }
+        });
+        final List<EmployeeChange> received = new ArrayList<>();
+
+        writer.start();
+        while (log.changesSince(start).orElseThrow().size() < writes / 4) {
+            Thread.onSpinWait();
+        }
+        log.subscribe(start, received::add).orElseThrow();
+        writer.join();
+
+        assertEquals(LongStream.rangeClosed(1, writes).boxed().toList(), versions(received));
+    }
+
+    private static List<Long> versions(List<EmployeeChange> changes) {
+        return changes.stream().map(EmployeeChange::version).toList();
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder().id(UUID.randomUUID()).name(name).build();
+    }
+}
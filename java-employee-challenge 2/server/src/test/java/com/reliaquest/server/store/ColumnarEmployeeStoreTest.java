@@ -0,0 +1,64 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ColumnarEmployeeStoreTest extends EmployeeStoreTest {
+
+    @Override
+    EmployeeStore store(Collection<MockEmployee> employees) {
+        return new ColumnarEmployeeStore(employees);
+    }
+
+    @Test
+    void everyFieldIsMaterialisedFromTheColumns() {
+        final MockEmployee full = new MockEmployee(UUID.randomUUID(), "Alice", 50_000, 30, "Engineer", "a@company.com");
+        final MockEmployee empty = new MockEmployee(UUID.randomUUID(), null, null, null, null, null);
+        final EmployeeStore store = store(List.of(full, empty));
+
+        assertEquals(List.of(full, empty), store.snapshot());
+        assertEquals(Optional.of(empty), store.findById(empty.getId()));
+    }
+
+    @Test
+    void snapshotKeepsReadingItsColumnsWhileTheStoreGrows() {
+        final EmployeeStore store = store(List.of());
+        store.addAll(IntStream.range(0, 1_000).mapToObj(i -> employee("e" + i)).toList());
+        final List<MockEmployee> snapshot = store.snapshot();
+
+        store.addAll(
+                IntStream.range(1_000, 5_000).mapToObj(i -> employee("e" + i)).toList());
+
+        assertEquals(1_000, snapshot.size());
+        assertEquals("e999", snapshot.get(999).getName());
+        assertEquals(5_000, store.size());
+        assertEquals("e4999", store.snapshot().get(4_999).getName());
+    }
+
+    @Test
+    void indexesStayCorrectAcrossRebuildsWithDeletedRows() {
+        final EmployeeStore store = store(List.of());
+        for (int round = 0; round < 4; round++) {
+            store.addAll(
+                    IntStream.range(0, 1_000).mapToObj(i -> employee("e" + i)).toList());
+            store.removeFirstByNames(
+                    IntStream.range(0, 1_000).mapToObj(i -> "E" + i).toList());
+        }
+        final MockEmployee last = employee("e7");
+        store.add(last);
+
+        assertEquals(1, store.size());
+        assertEquals(Optional.of(last), store.findFirstByName("e7"));
+        assertEquals(Optional.of(last), store.findById(last.getId()));
+        assertEquals(Optional.empty(), store.findFirstByName("e8"));
+        assertEquals(List.of(last), store.snapshot());
+        assertEquals(List.of(last), store.page(null, 10).employees());
+    }
+}
@@ -0,0 +1,198 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link EmployeeStore} contract, run against each implementation.
+ */
+abstract class EmployeeStoreTest {
+
+    abstract EmployeeStore store(Collection<MockEmployee> employees);
+
+    @Test
+    void employeesAreFoundByIdAndNameAndKeptInCreationOrder() {
+        final MockEmployee alice = employee("Alice");
+        final EmployeeStore store = store(List.of(alice, employee("Bob")));
+        store.add(employee("Carol"));
+
+        assertEquals(List.of("Alice", "Bob", "Carol"), names(store.snapshot()));
+        assertEquals(3, store.size());
+        assertEquals(Optional.of(alice), store.findById(alice.getId()));
+        assertEquals(Optional.of(alice), store.findFirstByName("ALICE"));
+        assertEquals(Optional.empty(), store.findById(UUID.randomUUID()));
+        assertEquals(Optional.empty(), store.findFirstByName("Dave"));
+    }
+
+    @Test
+    void deleteByNameRemovesOldestEmployeeWithThatNameIgnoringCase() {
+        final MockEmployee first = employee("Alice");
+        final MockEmployee second = employee("alice");
+        final EmployeeStore store = store(List.of(first, employee("Bob"), second));
+
+        assertEquals(Optional.of(first), store.removeFirstByName("ALICE"));
+
+        assertEquals(Optional.of(second), store.findFirstByName("Alice"));
+        assertEquals(Optional.empty(), store.findById(first.getId()));
+        assertEquals(List.of("Bob", "alice"), names(store.snapshot()));
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void nameListedTwiceRemovesTwoEmployees() {
+        final MockEmployee first = employee("Alice");
+        final MockEmployee second = employee("Alice");
+        final EmployeeStore store = store(List.of(first, employee("Bob"), second));
+
+        final List<Optional<MockEmployee>> removed = store.removeFirstByNames(List.of("alice", "Dave", "alice"));
+
+        assertEquals(List.of(Optional.of(first), Optional.empty(), Optional.of(second)), removed);
+        assertEquals(List.of("Bob"), names(store.snapshot()));
+        assertEquals(Optional.empty(), store.removeFirstByName("Alice"));
+    }
+
+    @Test
+    void employeeWithoutIdOrWithStoredIdIsRejected() {
+        final MockEmployee alice = employee("Alice");
+        final EmployeeStore store = store(List.of(alice));
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> store.add(alice.toBuilder().name("Eve").build()));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> store.add(employee("Eve").toBuilder().id(null).build()));
+
+        assertEquals(List.of("Alice"), names(store.snapshot()));
+    }
+
+    @Test
+    void idOfDeletedEmployeeCanBeReused() {
+        final MockEmployee alice = employee("Alice");
+        final EmployeeStore store = store(List.of(alice));
+        store.removeFirstByName("Alice");
+
+        store.add(alice.toBuilder().name("Eve").build());
+
+        assertEquals(Optional.of("Eve"), store.findById(alice.getId()).map(MockEmployee::getName));
+    }
+
+    @Test
+    void snapshotIsUnaffectedByLaterWrites() {
+        final EmployeeStore store = store(List.of(employee("Alice"), employee("Bob")));
+        final List<MockEmployee> snapshot = store.snapshot();
+
+        store.add(employee("Carol"));
+        store.removeFirstByName("Alice");
+
+        assertEquals(List.of("Alice", "Bob"), names(snapshot));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(employee("Dave")));
+        assertEquals(List.of("Bob", "Carol"), names(store.snapshot()));
+    }
+
+    @Test
+    void concurrentSnapshotsOnlySeeWholeWrites() {
+        final EmployeeStore store = store(List.of());
+        final AtomicBoolean writing = new AtomicBoolean(true);
+        final CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            try {
+                for (int i = 0; i < 5_000; i += 2) {
+                    store.addAll(List.of(employee("e" + i), employee("e" + (i + 1))));
+                }
+            } finally {
+                writing.set(false);
+            }
+        });
+
+        while (writing.get()) {
+            final List<MockEmployee> snapshot = store.snapshot();
+            assertEquals(0, snapshot.size() % 2);
+            assertEquals(
+                    IntStream.range(0, snapshot.size()).mapToObj(i -> "e" + i).toList(), names(snapshot));
+        }
+        writer.join();
+        assertEquals(5_000, store.snapshot().size());
+    }
+
+    @Test
+    void pagesWalkTheRosterInCreationOrder() {
+        final EmployeeStore store =
+                store(IntStream.range(0, 7).mapToObj(i -> employee("e" + i)).toList());
+
+        final EmployeePage first = store.page(null, 3);
+        final EmployeePage second = store.page(first.nextCursor(), 3);
+        final EmployeePage last = store.page(second.nextCursor(), 3);
+
+        assertEquals(List.of("e0", "e1", "e2"), names(first.employees()));
+        assertEquals(List.of("e3", "e4", "e5"), names(second.employees()));
+        assertEquals(List.of("e6"), names(last.employees()));
+        assertNull(last.nextCursor());
+    }
+
+    @Test
+    void pageEndingOnTheLastEmployeeHasNoNextCursor() {
+        final EmployeeStore store = store(List.of(employee("Alice"), employee("Bob")));
+
+        assertNull(store.page(null, 2).nextCursor());
+        assertEquals(new EmployeePage(List.of(), null), store(List.of()).page(null, 10));
+    }
+
+    @Test
+    void cursorSurvivesDeletesAndSeesLaterCreates() {
+        final EmployeeStore store =
+                store(IntStream.range(0, 4).mapToObj(i -> employee("e" + i)).toList());
+        final EmployeePage first = store.page(null, 2);
+
+        store.removeFirstByNames(List.of("e1", "e2"));
+        store.add(employee("e4"));
+
+        final EmployeePage second = store.page(first.nextCursor(), 2);
+        assertEquals(List.of("e3", "e4"), names(second.employees()));
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    void deletedEmployeesAreSkippedWithinAPage() {
+        final EmployeeStore store =
+                store(IntStream.range(0, 6).mapToObj(i -> employee("e" + i)).toList());
+        store.removeFirstByNames(List.of("e0", "e2", "e3"));
+
+        final EmployeePage first = store.page(null, 2);
+
+        assertEquals(List.of("e1", "e4"), names(first.employees()));
+        assertEquals(List.of("e5"), names(store.page(first.nextCursor(), 2).employees()));
+    }
+
+    @Test
+    void malformedCursorOrLimitIsRejected() {
+        final EmployeeStore store = store(List.of(employee("Alice")));
+
+        assertThrows(IllegalArgumentException.class, () -> store.page("not a cursor", 10));
+        assertThrows(IllegalArgumentException.class, () -> store.page("AAAA", 10));
+        assertThrows(IllegalArgumentException.class, () -> store.page(null, 0));
+    }
+
+    static List<String> names(List<MockEmployee> employees) {
+        return employees.stream().map(MockEmployee::getName).toList();
+    }
+
+    static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50_000)
+                .age(30)
+                .title("Engineer")
+                .email(name.toLowerCase() + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Collection;
+
+class IndexedEmployeeStoreTest extends EmployeeStoreTest {
+
+    @Override
+    EmployeeStore store(Collection<MockEmployee> employees) {
+        return new IndexedEmployeeStore(employees);
+    }
+}
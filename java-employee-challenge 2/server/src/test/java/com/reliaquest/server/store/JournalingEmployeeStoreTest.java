@@ -0,0 +1,134 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JournalingEmployeeStoreTest {
+
+    private static final Duration NEVER = Duration.ofHours(1);
+    private static final Supplier<List<MockEmployee>> NO_SEED = () -> {
+        throw new AssertionError("The roster should have been restored, not seeded");
+    };
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void restartRestoresSnapshotAndReplaysJournal() {
+        try (JournalingEmployeeStore store = open(() -> List.of(employee("Alice"), employee("Bob")), NEVER)) {
+            store.add(employee("Carol"));
+            store.removeFirstByName("alice");
+        }
+
+        try (JournalingEmployeeStore store = open(NO_SEED, NEVER)) {
+            assertEquals(List.of("Bob", "Carol"), names(store));
+        }
+    }
+
+    @Test
+    void tornLastEntryIsIgnored() throws IOException {
+        try (JournalingEmployeeStore store = open(() -> List.of(employee("Alice")), NEVER)) {
+            store.add(employee("Bob"));
+        }
+        try (DataOutputStream journal = new DataOutputStream(
+                Files.newOutputStream(directory.resolve("journal-0.log"), StandardOpenOption.APPEND))) {
+            journal.writeByte(RosterFiles.ADD);
+            journal.writeLong(42);
+        }
+
+        try (JournalingEmployeeStore store = open(NO_SEED, NEVER)) {
+            assertEquals(List.of("Alice", "Bob"), names(store));
+        }
+    }
+
+    @Test
+    void restartFoldsJournalIntoNewSnapshotAndDeletesOlderGenerations() throws IOException {
+        try (JournalingEmployeeStore store = open(() -> List.of(employee("Alice")), NEVER)) {
+            store.add(employee("Bob"));
+        }
+        assertEquals(Set.of("snapshot-0.bin", "journal-0.log"), files());
+
+        open(NO_SEED, NEVER).close();
+
+        assertEquals(Set.of("snapshot-1.bin", "journal-1.log"), files());
+        try (JournalingEmployeeStore store = open(NO_SEED, NEVER)) {
+            assertEquals(List.of("Alice", "Bob"), names(store));
+        }
+    }
+
+    @Test
+    void compactionSnapshotsRosterAndDeletesOlderGenerations() throws Exception {
+        try (JournalingEmployeeStore store = open(() -> List.of(employee("Alice")), Duration.ofMillis(20))) {
+            store.add(employee("Bob"));
+            final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (!files().equals(Set.of("snapshot-1.bin", "journal-1.log")) && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(Set.of("snapshot-1.bin", "journal-1.log"), files());
+        }
+
+        assertEquals(List.of("Alice", "Bob"), names(RosterFiles.readSnapshot(directory.resolve("snapshot-1.bin"))));
+    }
+
+    @Test
+    void journalsWithoutSnapshotAreDiscardedAndRosterIsSeeded() throws IOException {
+        try (DataOutputStream journal =
+                new DataOutputStream(Files.newOutputStream(directory.resolve("journal-3.log")))) {
+            journal.writeByte(RosterFiles.ADD);
+            RosterFiles.writeEmployee(journal, employee("Never Persisted"));
+        }
+
+        try (JournalingEmployeeStore store = open(() -> List.of(employee("Alice")), NEVER)) {
+            assertEquals(List.of("Alice"), names(store));
+        }
+
+        assertEquals(Set.of("snapshot-4.bin", "journal-4.log"), files());
+        try (JournalingEmployeeStore store = open(NO_SEED, NEVER)) {
+            assertEquals(List.of("Alice"), names(store));
+        }
+    }
+
+    private JournalingEmployeeStore open(Supplier<List<MockEmployee>> seeder, Duration compactionInterval) {
+        return JournalingEmployeeStore.open(new IndexedEmployeeStore(), directory, seeder, compactionInterval, false);
+    }
+
+    private Set<String> files() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+
+    private static List<String> names(EmployeeStore store) {
+        return names(store.snapshot());
+    }
+
+    private static List<String> names(List<MockEmployee> employees) {
+        return employees.stream().map(MockEmployee::getName).toList();
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50_000)
+                .age(30)
+                .title("Engineer")
+                .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RosterFilesTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void snapshotRoundTripsEveryFieldIncludingNulls() throws IOException {
+        final List<MockEmployee> employees = List.of(
+                new MockEmployee(
+                        UUID.randomUUID(), "Zo\u00eb \u00d6lander", 320_800, 61, "Vice Chair", "zoe@company.com"),
+                new MockEmployee(UUID.randomUUID(), null, null, null, null, null));
+        final Path file = directory.resolve("snapshot-0.bin");
+
+        RosterFiles.writeSnapshot(file, employees);
+
+        assertEquals(employees, RosterFiles.readSnapshot(file));
+        assertFalse(Files.exists(directory.resolve("snapshot-0.bin.tmp")));
+    }
+
+    @Test
+    void fileThatIsNotASnapshotIsRejected() throws IOException {
+        final Path file = directory.resolve("snapshot-0.bin");
+        Files.write(file, new byte[] {0, 0, 0, 1, 0, 0, 0, 1, 0, 0, 0, 0});
+
+        assertThrows(IOException.class, () -> RosterFiles.readSnapshot(file));
+    }
+
+    @Test
+    void journalReplaysEntriesInOrderAndStopsAtTornEntry() throws IOException {
+        final MockEmployee alice = new MockEmployee(UUID.randomUUID(), "Alice", 1, 2, "Engineer", "a@company.com");
+        final Path file = directory.resolve("journal-0.log");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeByte(RosterFiles.ADD);
+            RosterFiles.writeEmployee(out, alice);
+            out.writeByte(RosterFiles.REMOVE_BY_NAME);
+            RosterFiles.writeString(out, "Bob");
+            out.writeByte(RosterFiles.REMOVE_BY_NAME);
+            out.writeInt(10);
+            out.write(new byte[] {'C', 'a'});
+        }
+        final List<Object> replayed = new ArrayList<>();
+
+        assertEquals(2, RosterFiles.replayJournal(file, replayed::add, replayed::add));
+
+        assertEquals(List.of(alice, "Bob"), replayed);
+    }
+
+    @Test
+    void unknownJournalOperationFailsTheReplay() throws IOException {
+        final Path file = directory.resolve("journal-0.log");
+        Files.write(file, new byte[] {9});
+
+        assertThrows(IOException.class, () -> RosterFiles.replayJournal(file, employee -> {}, name -> {}));
+    }
+}
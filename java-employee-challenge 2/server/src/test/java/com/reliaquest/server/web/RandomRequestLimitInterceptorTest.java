@@ -0,0 +1,85 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RandomRequestLimitInterceptorTest {
+
+    /** Draws the lowest value every time: a limit of 5 requests and a backoff of 30 seconds. */
+    private static final RandomGenerator LOWEST = new RandomGenerator() {
+        @Override
+        public long nextLong() {
+            return 0;
+        }
+
+        @Override
+        public int nextInt(int origin, int bound) {
+            return origin;
+        }
+    };
+
+    private final SteppedClock clock = new SteppedClock();
+    private final RandomRequestLimitInterceptor interceptor = new RandomRequestLimitInterceptor(LOWEST, clock);
+
+    @Test
+    void admitsLimitThenRefusesUntilBackoffHasPassedSinceLastAdmitted() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(admitted());
+            clock.advance(Duration.ofSeconds(1));
+        }
+
+        final MockHttpServletResponse refused = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), refused, null));
+        assertEquals(429, refused.getStatus());
+        assertEquals("30", refused.getHeader(HttpHeaders.RETRY_AFTER));
+
+        clock.advance(Duration.ofSeconds(28));
+        assertFalse(admitted());
+
+        clock.advance(Duration.ofSeconds(1));
+        assertTrue(admitted());
+        assertTrue(admitted());
+    }
+
+    @Test
+    void concurrentRequestsNeverTakeMoreThanTheLimit() throws InterruptedException {
+        final int requests = 200;
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger admitted = new AtomicInteger();
+        for (int i = 0; i < requests; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (admitted()) {
+                    admitted.incrementAndGet();
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(5, admitted.get());
+    }
+
+    private boolean admitted() {
+        return interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null);
+    }
+}
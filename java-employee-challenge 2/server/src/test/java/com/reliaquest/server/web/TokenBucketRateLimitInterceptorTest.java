@@ -0,0 +1,117 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class TokenBucketRateLimitInterceptorTest {
+
+    private static final String CLIENT_HEADER = "X-Client-Id";
+
+    private final SteppedClock clock = new SteppedClock();
+
+    // 10 per minute is one token every 6 seconds; a full bucket holds 3
+    private final TokenBucketRateLimitInterceptor interceptor =
+            new TokenBucketRateLimitInterceptor(10, Duration.ofMinutes(1), 3, CLIENT_HEADER, 100, clock);
+
+    @Test
+    void burstIsAdmittedBackToBackThenRefusedWithRetryAfter() {
+        for (int remaining = 2; remaining >= 0; remaining--) {
+            final MockHttpServletResponse response = new MockHttpServletResponse();
+            assertTrue(interceptor.preHandle(request("a"), response, null));
+            assertEquals("10", response.getHeader(TokenBucketRateLimitInterceptor.LIMIT_HEADER));
+            assertEquals(
+                    Integer.toString(remaining), response.getHeader(TokenBucketRateLimitInterceptor.REMAINING_HEADER));
+        }
+
+        final MockHttpServletResponse refused = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(request("a"), refused, null));
+        assertEquals(429, refused.getStatus());
+        assertEquals("6", refused.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals("0", refused.getHeader(TokenBucketRateLimitInterceptor.REMAINING_HEADER));
+        assertEquals("18", refused.getHeader(TokenBucketRateLimitInterceptor.RESET_HEADER));
+    }
+
+    @Test
+    void bucketRefillsOneTokenPerInterval() {
+        drain("a");
+
+        clock.advance(Duration.ofSeconds(5));
+        final MockHttpServletResponse early = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(request("a"), early, null));
+        assertEquals("1", early.getHeader(HttpHeaders.RETRY_AFTER));
+
+        clock.advance(Duration.ofSeconds(1));
+        assertTrue(admitted("a"));
+        assertFalse(admitted("a"));
+
+        clock.advance(Duration.ofSeconds(18));
+        assertEquals(3, drain("a"));
+    }
+
+    @Test
+    void clientsAreLimitedIndependently() {
+        drain("a");
+
+        assertEquals(3, drain("b"));
+        assertFalse(admitted("a"));
+
+        final MockHttpServletRequest anonymous = new MockHttpServletRequest();
+        anonymous.setRemoteAddr("10.0.0.7");
+        assertTrue(interceptor.preHandle(anonymous, new MockHttpServletResponse(), null));
+        assertEquals(3, interceptor.getTrackedClients());
+    }
+
+    @Test
+    void fullBucketsAreSweptOnceMaxClientsAreTracked() {
+        final TokenBucketRateLimitInterceptor limited =
+                new TokenBucketRateLimitInterceptor(10, Duration.ofMinutes(1), 3, CLIENT_HEADER, 2, clock);
+        assertTrue(limited.preHandle(request("a"), new MockHttpServletResponse(), null));
+        assertTrue(limited.preHandle(request("b"), new MockHttpServletResponse(), null));
+
+        assertTrue(limited.preHandle(request("c"), new MockHttpServletResponse(), null));
+        assertEquals(3, limited.getTrackedClients());
+
+        clock.advance(Duration.ofSeconds(6));
+        assertTrue(limited.preHandle(request("d"), new MockHttpServletResponse(), null));
+        assertEquals(1, limited.getTrackedClients());
+    }
+
+    @Test
+    void nonPositiveSettingsAreRejected() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new TokenBucketRateLimitInterceptor(0, Duration.ofMinutes(1), 3, CLIENT_HEADER, 100, clock));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new TokenBucketRateLimitInterceptor(10, Duration.ZERO, 3, CLIENT_HEADER, 100, clock));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new TokenBucketRateLimitInterceptor(10, Duration.ofMinutes(1), 0, CLIENT_HEADER, 100, clock));
+    }
+
+    /**
+     * @return number of requests admitted before the first refusal
+     */
+    private int drain(String client) {
+        int admitted = 0;
+        while (admitted(client)) {
+            admitted++;
+        }
+        return admitted;
+    }
+
+    private boolean admitted(String client) {
+        return interceptor.preHandle(request(client), new MockHttpServletResponse(), null);
+    }
+
+    private static MockHttpServletRequest request(String client) {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(CLIENT_HEADER, client);
+        return request;
+    }
+}